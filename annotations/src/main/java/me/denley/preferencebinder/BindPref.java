@@ -4,6 +4,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 
 import me.denley.preferencebinder.internal.WidgetBindingType;
+import me.denley.preferencebinder.internal.WritePolicy;
 
 import static java.lang.annotation.ElementType.FIELD;
 import static java.lang.annotation.ElementType.METHOD;
@@ -27,4 +28,23 @@ public @interface BindPref {
     /** The method to use to bind to a widget */
     WidgetBindingType bindTo() default WidgetBindingType.ASSIGN;
 
+    /**
+     * Whether or not to call this method at most once per main loop iteration (e.g. once per commit
+     * of several values), rather than once for each changed key. Only applies to methods without parameters.
+     */
+    boolean coalesce() default false;
+
+    /** When user changes to a two-way widget binding (e.g. SEEKBAR_PROGRESS) are saved */
+    WritePolicy writePolicy() default WritePolicy.IMMEDIATE;
+
+    /** The delay, in milliseconds, used by the THROTTLE and DEBOUNCE write policies */
+    long writeDelay() default 300;
+
+    /**
+     * Whether or not to skip updating this field or calling this method when a changed preference
+     * value is equal to the value last applied to the target (e.g. when the same value is written
+     * again). Methods without parameters are always called.
+     */
+    boolean skipUnchanged() default true;
+
 }
@@ -0,0 +1,40 @@
+package me.denley.preferencebinder.internal;
+
+public enum PrefType {
+    // Defaults are arbitrary as we always check that a value exists
+    BOOLEAN("boolean", "java.lang.Boolean", "getBoolean", "false"),
+    FLOAT("float", "java.lang.Float", "getFloat", "0"),
+    INTEGER("int", "java.lang.Integer", "getInt", "0"),
+    LONG("long", "java.lang.Long", "getLong", "0"),
+    STRING("java.lang.String", "java.lang.String", "getString", "null"),
+    STRING_SET("java.util.Set<java.lang.String>", "java.util.Set<java.lang.String>", "getStringSet", "null");
+
+    private String fieldTypeDef;
+    private String objectTypeDef;
+    private String methodName;
+    private String defaultValue;
+
+    PrefType(String fieldTypeDef, String objectTypeDef, String methodName, String defaultValue){
+        this.fieldTypeDef = fieldTypeDef;
+        this.objectTypeDef = objectTypeDef;
+        this.methodName = methodName;
+        this.defaultValue = defaultValue;
+    }
+
+    public String getFieldTypeDef() {
+        return fieldTypeDef;
+    }
+
+    /** The type of this preference value as stored in the map returned by SharedPreferences.getAll() */
+    public String getObjectTypeDef() {
+        return objectTypeDef;
+    }
+
+    public String getSharedPrefsMethodName() {
+        return methodName;
+    }
+
+    public String getDefaultValue() {
+        return defaultValue;
+    }
+}
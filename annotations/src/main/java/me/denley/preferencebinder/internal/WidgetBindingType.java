@@ -6,55 +6,65 @@ public enum WidgetBindingType {
             null,
             "%s = %s",
             null,
+            null,
             null
     ),
     ACTIVATED(
             PrefType.BOOLEAN,
             "%s.setActivated(%s)",
             null,
+            null,
             null
     ),
     ENABLED(
             PrefType.BOOLEAN,
             "%s.setEnabled(%s)",
             null,
+            null,
             null
     ),
     SELECTED(
             PrefType.BOOLEAN,
             "%s.setSelected(%s)",
             null,
+            null,
             null
     ),
     VISIBILITY(
             PrefType.BOOLEAN,
             "%s.setVisibility(%s ? android.view.View.VISIBLE : android.view.View.GONE)",
             null,
+            null,
             null
     ),
     CHECKED(
             PrefType.BOOLEAN,
 
-            "%s.setChecked(%s)",
+            "me.denley.preferencebinder.WidgetValueWriter.setChecked(%s, %s)",
 
             "%s.setOnCheckedChangeListener(new android.widget.CompoundButton.OnCheckedChangeListener() {\n" +
+            "            final me.denley.preferencebinder.WidgetValueWriter writer = %s;\n" +
             "            @Override public void onCheckedChanged(final android.widget.CompoundButton buttonView, final boolean isChecked) {\n" +
-            "                prefs.edit().putBoolean(%s, isChecked).apply();\n" +
+            "                writer.putBoolean(isChecked);\n" +
             "            }\n" +
             "        })",
 
-            "%s.setOnCheckedChangeListener(null)"
+            "%s.setOnCheckedChangeListener(null)",
+
+            "%s.isChecked()"
     ),
     TEXT(
             PrefType.STRING,
             "%s.setText(%s)",
             null,
+            null,
             null
     ),
     PROGRESS(
             PrefType.INTEGER,
             "%s.setProgress(%s)",
             null,
+            null,
             null
     ),
     SEEKBAR_PROGRESS(
@@ -63,19 +73,29 @@ public enum WidgetBindingType {
             "%s.setProgress(%s)",
 
             "%s.setOnSeekBarChangeListener(new android.widget.SeekBar.OnSeekBarChangeListener() {\n" +
+                    "            final me.denley.preferencebinder.WidgetValueWriter writer = %s;\n" +
                     "            @Override public void onProgressChanged(final android.widget.SeekBar seekBar, final int progress, final boolean fromUser) {\n" +
-                    "                prefs.edit().putInt(%s, progress).apply();\n" +
+                    "                if (fromUser) {\n" +
+                    "                    writer.putInt(progress);\n" +
+                    "                }\n" +
+                    "            }\n" +
+                    "            @Override public void onStartTrackingTouch(final android.widget.SeekBar seekBar) {\n" +
+                    "                writer.onStartTrackingTouch();\n" +
+                    "            }\n" +
+                    "            @Override public void onStopTrackingTouch(final android.widget.SeekBar seekBar) {\n" +
+                    "                writer.onStopTrackingTouch();\n" +
                     "            }\n" +
-                    "            @Override public void onStartTrackingTouch(final android.widget.SeekBar seekBar) { }\n" +
-                    "            @Override public void onStopTrackingTouch(final android.widget.SeekBar seekBar) { }\n" +
                     "        })",
 
-            "%s.setOnSeekBarChangeListener(null)"
+            "%s.setOnSeekBarChangeListener(null)",
+
+            "%s.getProgress()"
     ),
     MAX_PROGRESS(
             PrefType.INTEGER,
             "%s.setMax(%s)",
             null,
+            null,
             null
     );
 
@@ -83,12 +103,14 @@ public enum WidgetBindingType {
     public final String bindingCall;
     public final String listenerCall;
     public final String listenerUnbind;
+    public final String currentValueCall;
 
-    WidgetBindingType(PrefType prefType, String bindingCall, String listenerCall, String listenerUnbind) {
+    WidgetBindingType(PrefType prefType, String bindingCall, String listenerCall, String listenerUnbind, String currentValueCall) {
         this.prefType = prefType;
         this.bindingCall = bindingCall;
         this.listenerCall = listenerCall;
         this.listenerUnbind = listenerUnbind;
+        this.currentValueCall = currentValueCall;
     }
 
 }
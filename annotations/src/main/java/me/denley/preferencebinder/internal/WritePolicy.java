@@ -0,0 +1,24 @@
+package me.denley.preferencebinder.internal;
+
+/**
+ * When a two-way widget binding writes user changes back to SharedPreferences. A change that is
+ * still waiting to be written when its target is unbound is written on the next main loop iteration.
+ */
+public enum WritePolicy {
+
+    /** Every change is written immediately. */
+    IMMEDIATE,
+
+    /**
+     * Changes made while the user is dragging (e.g. a SeekBar thumb) are only written once the user
+     * releases it. Other changes are written immediately.
+     */
+    ON_RELEASE,
+
+    /** Changes are written at most once per "writeDelay" milliseconds. The latest value is always written. */
+    THROTTLE,
+
+    /** Changes are written once no further changes have been made for "writeDelay" milliseconds. */
+    DEBOUNCE
+
+}
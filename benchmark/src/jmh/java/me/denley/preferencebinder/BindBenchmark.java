@@ -0,0 +1,71 @@
+package me.denley.preferencebinder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import me.denley.preferencebinder.store.InMemoryPreferenceStore;
+import me.denley.preferencebinder.targets.Targets;
+
+/**
+ * Measures binding targets with varying numbers of keys, from stores that also hold varying numbers
+ * of values that the targets don't bind (as in a large preferences file).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BindBenchmark {
+
+    @Param({"1", "8", "32"})
+    public int keyCount;
+
+    @Param({"0", "3000"})
+    public int unboundKeyCount;
+
+    private InMemoryPreferenceStore store;
+    private Object listeningTarget;
+    private Object initOnlyTarget;
+
+    @Setup public void setUp() {
+        final Map<String, Object> values = Targets.values(keyCount);
+        for (int i = 0; i < unboundKeyCount; i++) {
+            values.put("unbound" + i, i);
+        }
+        store = new InMemoryPreferenceStore(values);
+        listeningTarget = Targets.newListeningTarget(keyCount);
+        initOnlyTarget = Targets.newInitOnlyTarget(keyCount);
+    }
+
+    @TearDown public void tearDown() {
+        PreferenceBinder.unbind(initOnlyTarget);
+    }
+
+    /** A full bind and unbind, including subscribing to and unsubscribing from each key. */
+    @Benchmark public Object bindUnbind() {
+        PreferenceBinder.bind(listeningTarget, store);
+        PreferenceBinder.unbind(listeningTarget);
+        return listeningTarget;
+    }
+
+    /** A bind of a target without listening bindings, which is dominated by its initializeTarget call. */
+    @Benchmark public Object initialize() {
+        PreferenceBinder.bind(initOnlyTarget, store);
+        return initOnlyTarget;
+    }
+
+}
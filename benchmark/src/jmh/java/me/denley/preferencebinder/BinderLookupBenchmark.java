@@ -0,0 +1,75 @@
+package me.denley.preferencebinder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import me.denley.preferencebinder.targets.ListeningTarget8;
+import me.denley.preferencebinder.targets.TargetBinderIndex;
+
+/**
+ * Measures finding the binder for a target class, for classes with a generated binder (hits) and
+ * without one (misses). Uncached lookups are measured by clearing the binder cache for the class
+ * (and its superclasses) before each lookup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BinderLookupBenchmark {
+
+    static class UnannotatedBase {}
+    static class Unannotated extends UnannotatedBase {}
+
+    /** Whether the generated binder index is registered, rather than using reflection. */
+    @Param({"false", "true"})
+    public boolean indexed;
+
+    private PreferenceBinder.BinderIndex index;
+
+    @Setup public void setUp() {
+        if (indexed) {
+            index = new TargetBinderIndex();
+            PreferenceBinder.addIndex(index);
+        }
+    }
+
+    @TearDown public void tearDown() {
+        if (index != null) {
+            PreferenceBinder.INDEXES.remove(index);
+        }
+    }
+
+    @Benchmark public Object cachedHit() throws Exception {
+        return PreferenceBinder.findBinderForClass(ListeningTarget8.class);
+    }
+
+    @Benchmark public Object cachedMiss() throws Exception {
+        return PreferenceBinder.findBinderForClass(Unannotated.class);
+    }
+
+    @Benchmark public Object uncachedHit() throws Exception {
+        PreferenceBinder.BINDERS.remove(ListeningTarget8.class);
+        return PreferenceBinder.findBinderForClass(ListeningTarget8.class);
+    }
+
+    @Benchmark public Object uncachedMiss() throws Exception {
+        PreferenceBinder.BINDERS.remove(Unannotated.class);
+        PreferenceBinder.BINDERS.remove(UnannotatedBase.class);
+        return PreferenceBinder.findBinderForClass(Unannotated.class);
+    }
+
+}
@@ -0,0 +1,126 @@
+package me.denley.preferencebinder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import me.denley.preferencebinder.store.PreferenceStore;
+
+/**
+ * A store whose values never change, but which can report changes to its listeners. This measures
+ * change dispatch through the generated binders without the cost of applying an edit. Edits (e.g.
+ * from two-way widget bindings) are ignored.
+ */
+final class DispatchOnlyStore implements PreferenceStore {
+
+    private static final Editor IGNORED_EDITOR = new Editor() {
+        @Override public Editor putBoolean(String key, boolean value) {
+            return this;
+        }
+
+        @Override public Editor putFloat(String key, float value) {
+            return this;
+        }
+
+        @Override public Editor putInt(String key, int value) {
+            return this;
+        }
+
+        @Override public Editor putLong(String key, long value) {
+            return this;
+        }
+
+        @Override public Editor putString(String key, String value) {
+            return this;
+        }
+
+        @Override public Editor putStringSet(String key, Set<String> values) {
+            return this;
+        }
+
+        @Override public Editor remove(String key) {
+            return this;
+        }
+
+        @Override public void apply() {
+        }
+    };
+
+    private final Map<String, ?> values;
+    private final List<OnChangeListener> listeners = new CopyOnWriteArrayList<OnChangeListener>();
+
+    DispatchOnlyStore(Map<String, ?> values) {
+        this.values = values;
+    }
+
+    /** Notifies listeners that the given key has changed. */
+    void dispatchChange(String key) {
+        for (OnChangeListener listener : listeners) {
+            listener.onPreferenceChanged(this, key);
+        }
+    }
+
+    @Override public boolean contains(String key) {
+        return values.containsKey(key);
+    }
+
+    @Override public boolean getBoolean(String key, boolean defaultValue) {
+        final Object value = values.get(key);
+        return value == null ? defaultValue : (Boolean) value;
+    }
+
+    @Override public float getFloat(String key, float defaultValue) {
+        final Object value = values.get(key);
+        return value == null ? defaultValue : (Float) value;
+    }
+
+    @Override public int getInt(String key, int defaultValue) {
+        final Object value = values.get(key);
+        return value == null ? defaultValue : (Integer) value;
+    }
+
+    @Override public long getLong(String key, long defaultValue) {
+        final Object value = values.get(key);
+        return value == null ? defaultValue : (Long) value;
+    }
+
+    @Override public String getString(String key, String defaultValue) {
+        final Object value = values.get(key);
+        return value == null ? defaultValue : (String) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override public Set<String> getStringSet(String key, Set<String> defaultValues) {
+        final Object value = values.get(key);
+        return value == null ? defaultValues : (Set<String>) value;
+    }
+
+    @Override public Map<String, ?> getAll() {
+        return values;
+    }
+
+    @Override public Map<String, ?> getValues(String[] keys) {
+        final Map<String, Object> result = new HashMap<String, Object>(keys.length * 2);
+        for (String key : keys) {
+            if (values.containsKey(key)) {
+                result.put(key, values.get(key));
+            }
+        }
+        return result;
+    }
+
+    @Override public Editor edit() {
+        return IGNORED_EDITOR;
+    }
+
+    @Override public void registerOnChangeListener(OnChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override public void unregisterOnChangeListener(OnChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+}
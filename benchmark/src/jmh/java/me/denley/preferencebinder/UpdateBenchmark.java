@@ -0,0 +1,93 @@
+package me.denley.preferencebinder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import me.denley.preferencebinder.store.InMemoryPreferenceStore;
+import me.denley.preferencebinder.targets.Targets;
+
+/** Measures applying a changed value to a bound target. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class UpdateBenchmark {
+
+    @Param({"1", "8", "32"})
+    public int keyCount;
+
+    private String[] keys;
+    private int nextKey;
+    private int nextValue;
+
+    private DispatchOnlyStore dispatchStore;
+    private Object dispatchTarget;
+
+    private InMemoryPreferenceStore store;
+    private Object target;
+
+    private Object refreshTarget;
+
+    @Setup public void setUp() {
+        keys = new String[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            keys[i] = Targets.key(i);
+        }
+
+        dispatchStore = new DispatchOnlyStore(Targets.values(keyCount));
+        dispatchTarget = Targets.newListeningTarget(keyCount);
+        PreferenceBinder.bind(dispatchTarget, dispatchStore);
+
+        store = new InMemoryPreferenceStore(Targets.values(keyCount));
+        target = Targets.newListeningTarget(keyCount);
+        PreferenceBinder.bind(target, store);
+
+        refreshTarget = Targets.newListeningTarget(keyCount);
+        PreferenceBinder.bindForRefresh(refreshTarget, new InMemoryPreferenceStore(Targets.values(keyCount)));
+    }
+
+    @TearDown public void tearDown() {
+        PreferenceBinder.unbind(dispatchTarget);
+        PreferenceBinder.unbind(target);
+        PreferenceBinder.unbind(refreshTarget);
+    }
+
+    /**
+     * Dispatch of a change notification to the generated updateTarget method, cycling through the
+     * bound keys. The store's values never change, so this measures notifications that are skipped
+     * because the bound value is unchanged.
+     */
+    @Benchmark public Object dispatch() {
+        dispatchStore.dispatchChange(keys[nextKey]);
+        nextKey = (nextKey + 1) % keyCount;
+        return dispatchTarget;
+    }
+
+    /** A change applied through the store's editor, from edit() to the target being updated. */
+    @Benchmark public Object apply() {
+        // "key0" is an int binding in every target
+        store.edit().putInt("key0", nextValue++).apply();
+        return target;
+    }
+
+    /** A refresh of a target bound with bindForRefresh, when none of its keys have changed. */
+    @Benchmark public Object refreshUnchanged() {
+        PreferenceBinder.refresh(refreshTarget);
+        return refreshTarget;
+    }
+
+}
@@ -0,0 +1,83 @@
+package me.denley.preferencebinder.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+
+/**
+ * Keeps compiler output (generated sources, class files and resources, such as service files) in
+ * memory, so that disk access isn't measured.
+ */
+final class InMemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final Map<String, Output> classFiles = new HashMap<String, Output>();
+
+    InMemoryFileManager(StandardJavaFileManager fileManager) {
+        super(fileManager);
+    }
+
+    @Override public JavaFileObject getJavaFileForOutput(Location location, String className,
+                                                         JavaFileObject.Kind kind, FileObject sibling) {
+        final Output output = new Output(URI.create("mem:///" + className.replace('.', '/') + kind.extension), kind);
+        if (kind == JavaFileObject.Kind.CLASS) {
+            classFiles.put(className, output);
+        }
+        return output;
+    }
+
+    @Override public FileObject getFileForOutput(Location location, String packageName,
+                                                 String relativeName, FileObject sibling) {
+        final String directory = packageName.isEmpty() ? "" : packageName.replace('.', '/') + "/";
+        return new Output(URI.create("mem:///" + directory + relativeName), JavaFileObject.Kind.OTHER);
+    }
+
+    /** @return A class loader for the classes compiled with this file manager. */
+    @Override public ClassLoader getClassLoader(Location location) {
+        return new ClassLoader(InMemoryFileManager.class.getClassLoader()) {
+            @Override protected Class<?> findClass(String name) throws ClassNotFoundException {
+                final Output classFile = classFiles.get(name);
+                if (classFile == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                final byte[] bytes = classFile.bytes.toByteArray();
+                return defineClass(name, bytes, 0, bytes.length);
+            }
+        };
+    }
+
+    private static final class Output extends SimpleJavaFileObject {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        Output(URI uri, Kind kind) {
+            super(uri, kind);
+        }
+
+        @Override public OutputStream openOutputStream() {
+            bytes.reset();
+            return bytes;
+        }
+
+        @Override public Writer openWriter() {
+            return new OutputStreamWriter(openOutputStream(), UTF_8);
+        }
+
+        // Generated sources are read back in by the compiler
+        @Override public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return new String(bytes.toByteArray(), UTF_8);
+        }
+    }
+
+}
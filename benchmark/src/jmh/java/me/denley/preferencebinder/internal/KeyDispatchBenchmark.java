@@ -0,0 +1,139 @@
+package me.denley.preferencebinder.internal;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+/**
+ * Measures finding the bindings for a changed key, with the string switch that generated
+ * updateTarget methods use, and with the if/else chain of equals() calls that they used before.
+ *
+ * A dispatcher of each shape is generated and compiled in-process for each key count. Changed keys
+ * are cycled through, and are not the interned literals in the dispatcher (just as keys reported
+ * by SharedPreferences aren't), so each comparison has to compare characters.
+ *
+ * Note that HotSpot doesn't compile methods larger than 8000 bytes of bytecode, which both
+ * shapes exceed with 1000 keys.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class KeyDispatchBenchmark {
+
+    /** DO NOT USE: Implemented by the generated dispatchers. */
+    public interface KeyDispatcher {
+        void dispatch(String key);
+    }
+
+    @Param({"1", "10", "100", "1000"})
+    public int keyCount;
+
+    @Param({"switch", "ifChain"})
+    public String shape;
+
+    private KeyDispatcher dispatcher;
+    private String[] keys;
+    private int nextKey;
+
+    @Setup public void setUp() throws Exception {
+        keys = new String[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            keys[i] = new String("key" + i);
+        }
+
+        final String source = "switch".equals(shape) ? generateSwitch(keyCount) : generateIfChain(keyCount);
+        dispatcher = (KeyDispatcher) compile(source).newInstance();
+    }
+
+    @Benchmark public Object dispatch() {
+        dispatcher.dispatch(keys[nextKey]);
+        nextKey = (nextKey + 1) % keyCount;
+        return dispatcher;
+    }
+
+    private static String generateSwitch(int keyCount) {
+        final StringBuilder body = new StringBuilder("        switch (key) {\n");
+        for (int i = 0; i < keyCount; i++) {
+            body.append("            case \"key").append(i).append("\":\n")
+                    .append("                value").append(i).append("++;\n")
+                    .append("                break;\n");
+        }
+        body.append("        }\n");
+        return generateDispatcher(keyCount, body);
+    }
+
+    // The shape of updateTarget before it switched on the key. Each branch returns rather than being
+    // chained with "else", as javac overflows its stack parsing a chain of 1000, but the comparisons are the same.
+    private static String generateIfChain(int keyCount) {
+        final StringBuilder body = new StringBuilder();
+        for (int i = 0; i < keyCount; i++) {
+            body.append("        if (key.equals(\"key").append(i).append("\")) {\n")
+                    .append("            value").append(i).append("++;\n")
+                    .append("            return;\n")
+                    .append("        }\n");
+        }
+        return generateDispatcher(keyCount, body);
+    }
+
+    private static String generateDispatcher(int keyCount, CharSequence body) {
+        final StringBuilder source = new StringBuilder();
+        source.append("public class Dispatcher implements ")
+                .append(KeyDispatcher.class.getCanonicalName()).append(" {\n");
+        for (int i = 0; i < keyCount; i++) {
+            source.append("    int value").append(i).append(";\n");
+        }
+        source.append("    @Override public void dispatch(String key) {\n")
+                .append(body)
+                .append("    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    private static Class<?> compile(final String source) throws ClassNotFoundException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("The benchmarks must be run on a JDK");
+        }
+
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
+        final InMemoryFileManager fileManager = new InMemoryFileManager(
+                compiler.getStandardFileManager(diagnostics, null, null));
+        final JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///Dispatcher.java"), JavaFileObject.Kind.SOURCE) {
+            @Override public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+
+        final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                Arrays.asList("-classpath", System.getProperty("java.class.path"), "-proc:none"),
+                null, Collections.singletonList(file));
+        if (!task.call()) {
+            throw new IllegalStateException("Compilation failed: " + diagnostics.getDiagnostics());
+        }
+        return fileManager.getClassLoader(StandardLocation.CLASS_OUTPUT).loadClass("Dispatcher");
+    }
+
+}
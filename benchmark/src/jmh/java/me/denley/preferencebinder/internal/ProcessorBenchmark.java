@@ -0,0 +1,130 @@
+package me.denley.preferencebinder.internal;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.processing.Processor;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
+
+/**
+ * Measures annotation processing of synthetic source trees, compiled in-process with the system
+ * Java compiler. Compiling without annotation processing gives a baseline, so that the processor's
+ * share of each compilation can be seen.
+ *
+ * The GC profiler only reports how much is allocated, so the peak heap usage of each iteration
+ * (which is a single compilation) is also printed with the iteration's results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class ProcessorBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int classCount;
+
+    /** The length of the inheritance chains formed by the target classes (1 for no inheritance). */
+    @Param({"1", "20"})
+    public int inheritanceDepth;
+
+    private JavaCompiler compiler;
+    private List<JavaFileObject> sources;
+    private long heapUsedBefore;
+
+    @Setup public void setUp() {
+        compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("The benchmarks must be run on a JDK");
+        }
+        sources = SyntheticSources.generate(classCount, inheritanceDepth);
+    }
+
+    @Setup(Level.Iteration) public void resetPeakHeapUsage() {
+        System.gc();
+        heapUsedBefore = 0;
+        for (MemoryPoolMXBean pool : getHeapPools()) {
+            heapUsedBefore += pool.getUsage().getUsed();
+            pool.resetPeakUsage();
+        }
+    }
+
+    // Each pool's peak is reached at a different time, so their sum is an upper bound
+    @TearDown(Level.Iteration) public void printPeakHeapUsage() {
+        long peakHeapUsed = 0;
+        for (MemoryPoolMXBean pool : getHeapPools()) {
+            peakHeapUsed += pool.getPeakUsage().getUsed();
+        }
+        System.out.println(String.format("Peak heap usage: %d MB (%d MB before compiling)",
+                peakHeapUsed >> 20, heapUsedBefore >> 20));
+    }
+
+    private static List<MemoryPoolMXBean> getHeapPools() {
+        final List<MemoryPoolMXBean> heapPools = new ArrayList<MemoryPoolMXBean>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                heapPools.add(pool);
+            }
+        }
+        return heapPools;
+    }
+
+    /** Parsing, attribution, and annotation processing, without compiling the generated binders. */
+    @Benchmark public Object process() {
+        return compile("-proc:only", new PreferenceAggregateProcessor(), new PreferenceBinderProcessor());
+    }
+
+    /** A complete compilation, including the generated binders. */
+    @Benchmark public Object compile() {
+        return compile(null, new PreferenceAggregateProcessor(), new PreferenceBinderProcessor());
+    }
+
+    /** A complete compilation without annotation processing. */
+    @Benchmark public Object compileWithoutProcessing() {
+        return compile("-proc:none");
+    }
+
+    private Object compile(String procOption, Processor... processors) {
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
+        final InMemoryFileManager fileManager = new InMemoryFileManager(
+                compiler.getStandardFileManager(diagnostics, null, null));
+
+        final List<String> options = procOption == null
+                ? Arrays.asList("-classpath", System.getProperty("java.class.path"))
+                : Arrays.asList("-classpath", System.getProperty("java.class.path"), procOption);
+
+        final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, sources);
+        if (processors.length > 0) {
+            task.setProcessors(Arrays.asList(processors));
+        }
+
+        if (!task.call()) {
+            throw new IllegalStateException("Compilation failed: " + diagnostics.getDiagnostics());
+        }
+        return diagnostics;
+    }
+
+}
@@ -0,0 +1,74 @@
+package me.denley.preferencebinder.internal;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+
+/** Generates synthetic source trees of annotated classes, to be compiled by {@link ProcessorBenchmark}. */
+final class SyntheticSources {
+    private SyntheticSources(){
+        throw new AssertionError("Instances are not allowed");
+    }
+
+    private static final String PACKAGE = "synthetic";
+
+    /**
+     * Generates target classes that each bind one key to a field, a single parameter method, and a
+     * multiple key method, along with a class declaring a {@link me.denley.preferencebinder.PreferenceDefault}
+     * for every key.
+     *
+     * @param classCount The number of target classes to generate.
+     * @param inheritanceDepth The length of the inheritance chains the target classes form (1 for no inheritance).
+     * @return The generated source files.
+     */
+    static List<JavaFileObject> generate(int classCount, int inheritanceDepth) {
+        final List<JavaFileObject> sources = new ArrayList<JavaFileObject>(classCount + 1);
+
+        final StringBuilder defaults = new StringBuilder();
+        defaults.append("package ").append(PACKAGE).append(";\n\n")
+                .append("import me.denley.preferencebinder.PreferenceDefault;\n\n")
+                .append("public class Defaults {\n");
+        for (int i = 0; i < classCount; i++) {
+            defaults.append("    @PreferenceDefault(\"key").append(i).append("\") public static int KEY_")
+                    .append(i).append(" = ").append(i).append(";\n");
+        }
+        defaults.append("}\n");
+        sources.add(new Source("Defaults", defaults.toString()));
+
+        for (int i = 0; i < classCount; i++) {
+            final StringBuilder target = new StringBuilder();
+            target.append("package ").append(PACKAGE).append(";\n\n")
+                    .append("import me.denley.preferencebinder.BindPref;\n\n")
+                    .append("public class Target").append(i);
+            if (i % inheritanceDepth != 0) {
+                target.append(" extends Target").append(i - 1);
+            }
+            target.append(" {\n")
+                    .append("    @BindPref(\"key").append(i).append("\") int value").append(i).append(";\n")
+                    .append("    @BindPref(\"key").append(i).append("\") void onValue").append(i).append("(int value) {}\n")
+                    .append("    @BindPref({\"key").append(i).append("\", \"key").append((i + 1) % classCount)
+                    .append("\"}) void onChanged").append(i).append("() {}\n")
+                    .append("}\n");
+            sources.add(new Source("Target" + i, target.toString()));
+        }
+
+        return sources;
+    }
+
+    private static final class Source extends SimpleJavaFileObject {
+        private final String content;
+
+        Source(String className, String content) {
+            super(URI.create("string:///" + PACKAGE + "/" + className + Kind.SOURCE.extension), Kind.SOURCE);
+            this.content = content;
+        }
+
+        @Override public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return content;
+        }
+    }
+
+}
@@ -0,0 +1,8 @@
+package me.denley.preferencebinder.targets;
+
+import me.denley.preferencebinder.BindPref;
+
+/** A benchmark target with 1 binding that is only initialized. */
+public class InitOnlyTarget1 {
+    @BindPref(value = "key0", listen = false) int key0;
+}
@@ -0,0 +1,39 @@
+package me.denley.preferencebinder.targets;
+
+import me.denley.preferencebinder.BindPref;
+
+/** A benchmark target with 32 bindings that are only initialized. */
+public class InitOnlyTarget32 {
+    @BindPref(value = "key0", listen = false) int key0;
+    @BindPref(value = "key1", listen = false) String key1;
+    @BindPref(value = "key2", listen = false) boolean key2;
+    @BindPref(value = "key3", listen = false) long key3;
+    @BindPref(value = "key4", listen = false) float key4;
+    @BindPref(value = "key5", listen = false) int key5;
+    @BindPref(value = "key6", listen = false) String key6;
+    @BindPref(value = "key7", listen = false) boolean key7;
+    @BindPref(value = "key8", listen = false) long key8;
+    @BindPref(value = "key9", listen = false) float key9;
+    @BindPref(value = "key10", listen = false) int key10;
+    @BindPref(value = "key11", listen = false) String key11;
+    @BindPref(value = "key12", listen = false) boolean key12;
+    @BindPref(value = "key13", listen = false) long key13;
+    @BindPref(value = "key14", listen = false) float key14;
+    @BindPref(value = "key15", listen = false) int key15;
+    @BindPref(value = "key16", listen = false) String key16;
+    @BindPref(value = "key17", listen = false) boolean key17;
+    @BindPref(value = "key18", listen = false) long key18;
+    @BindPref(value = "key19", listen = false) float key19;
+    @BindPref(value = "key20", listen = false) int key20;
+    @BindPref(value = "key21", listen = false) String key21;
+    @BindPref(value = "key22", listen = false) boolean key22;
+    @BindPref(value = "key23", listen = false) long key23;
+    @BindPref(value = "key24", listen = false) float key24;
+    @BindPref(value = "key25", listen = false) int key25;
+    @BindPref(value = "key26", listen = false) String key26;
+    @BindPref(value = "key27", listen = false) boolean key27;
+    @BindPref(value = "key28", listen = false) long key28;
+    @BindPref(value = "key29", listen = false) float key29;
+    @BindPref(value = "key30", listen = false) int key30;
+    @BindPref(value = "key31", listen = false) String key31;
+}
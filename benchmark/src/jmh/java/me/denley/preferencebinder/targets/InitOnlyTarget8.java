@@ -0,0 +1,15 @@
+package me.denley.preferencebinder.targets;
+
+import me.denley.preferencebinder.BindPref;
+
+/** A benchmark target with 8 bindings that are only initialized. */
+public class InitOnlyTarget8 {
+    @BindPref(value = "key0", listen = false) int key0;
+    @BindPref(value = "key1", listen = false) String key1;
+    @BindPref(value = "key2", listen = false) boolean key2;
+    @BindPref(value = "key3", listen = false) long key3;
+    @BindPref(value = "key4", listen = false) float key4;
+    @BindPref(value = "key5", listen = false) int key5;
+    @BindPref(value = "key6", listen = false) String key6;
+    @BindPref(value = "key7", listen = false) boolean key7;
+}
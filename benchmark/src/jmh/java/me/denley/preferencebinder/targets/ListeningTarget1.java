@@ -0,0 +1,8 @@
+package me.denley.preferencebinder.targets;
+
+import me.denley.preferencebinder.BindPref;
+
+/** A benchmark target with 1 binding that listens for changes. */
+public class ListeningTarget1 {
+    @BindPref("key0") int key0;
+}
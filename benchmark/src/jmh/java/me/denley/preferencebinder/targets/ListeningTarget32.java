@@ -0,0 +1,39 @@
+package me.denley.preferencebinder.targets;
+
+import me.denley.preferencebinder.BindPref;
+
+/** A benchmark target with 32 bindings that listen for changes. */
+public class ListeningTarget32 {
+    @BindPref("key0") int key0;
+    @BindPref("key1") String key1;
+    @BindPref("key2") boolean key2;
+    @BindPref("key3") long key3;
+    @BindPref("key4") float key4;
+    @BindPref("key5") int key5;
+    @BindPref("key6") String key6;
+    @BindPref("key7") boolean key7;
+    @BindPref("key8") long key8;
+    @BindPref("key9") float key9;
+    @BindPref("key10") int key10;
+    @BindPref("key11") String key11;
+    @BindPref("key12") boolean key12;
+    @BindPref("key13") long key13;
+    @BindPref("key14") float key14;
+    @BindPref("key15") int key15;
+    @BindPref("key16") String key16;
+    @BindPref("key17") boolean key17;
+    @BindPref("key18") long key18;
+    @BindPref("key19") float key19;
+    @BindPref("key20") int key20;
+    @BindPref("key21") String key21;
+    @BindPref("key22") boolean key22;
+    @BindPref("key23") long key23;
+    @BindPref("key24") float key24;
+    @BindPref("key25") int key25;
+    @BindPref("key26") String key26;
+    @BindPref("key27") boolean key27;
+    @BindPref("key28") long key28;
+    @BindPref("key29") float key29;
+    @BindPref("key30") int key30;
+    @BindPref("key31") String key31;
+}
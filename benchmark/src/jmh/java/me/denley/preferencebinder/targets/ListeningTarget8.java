@@ -0,0 +1,15 @@
+package me.denley.preferencebinder.targets;
+
+import me.denley.preferencebinder.BindPref;
+
+/** A benchmark target with 8 bindings that listen for changes. */
+public class ListeningTarget8 {
+    @BindPref("key0") int key0;
+    @BindPref("key1") String key1;
+    @BindPref("key2") boolean key2;
+    @BindPref("key3") long key3;
+    @BindPref("key4") float key4;
+    @BindPref("key5") int key5;
+    @BindPref("key6") String key6;
+    @BindPref("key7") boolean key7;
+}
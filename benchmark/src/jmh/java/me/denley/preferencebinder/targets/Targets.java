@@ -0,0 +1,68 @@
+package me.denley.preferencebinder.targets;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/** Creates benchmark targets, and values for their keys, by the number of keys they bind. */
+public final class Targets {
+    private Targets(){
+        throw new AssertionError("Instances are not allowed");
+    }
+
+    public static Object newListeningTarget(int keyCount) {
+        switch (keyCount) {
+            case 1:
+                return new ListeningTarget1();
+            case 8:
+                return new ListeningTarget8();
+            case 32:
+                return new ListeningTarget32();
+            default:
+                throw new IllegalArgumentException("No target with " + keyCount + " keys");
+        }
+    }
+
+    public static Object newInitOnlyTarget(int keyCount) {
+        switch (keyCount) {
+            case 1:
+                return new InitOnlyTarget1();
+            case 8:
+                return new InitOnlyTarget8();
+            case 32:
+                return new InitOnlyTarget32();
+            default:
+                throw new IllegalArgumentException("No target with " + keyCount + " keys");
+        }
+    }
+
+    public static String key(int index) {
+        return "key" + index;
+    }
+
+    /** @return A value of the bound type for each of the first keyCount keys. */
+    public static Map<String, Object> values(int keyCount) {
+        final Map<String, Object> values = new HashMap<String, Object>();
+        for (int i = 0; i < keyCount; i++) {
+            final Object value;
+            switch (i % 5) {
+                case 0:
+                    value = i;
+                    break;
+                case 1:
+                    value = "value" + i;
+                    break;
+                case 2:
+                    value = true;
+                    break;
+                case 3:
+                    value = (long) i;
+                    break;
+                default:
+                    value = i + 0.5f;
+            }
+            values.put(key(i), value);
+        }
+        return values;
+    }
+
+}
@@ -0,0 +1,789 @@
+package me.denley.preferencebinder.internal;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.annotation.ElementType;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class BinderClassFactory {
+    private static final String INDENT = "    ";
+    private static final String INDENT_2 = "        ";
+    private static final String INDENT_3 = "            ";
+    private static final String INDENT_4 = "                ";
+    private static final String INDENT_5 = "                    ";
+    private static final String INDENT_6 = "                        ";
+
+    private static final int MAX_COALESCED_BINDINGS = 32;
+    // Targets that initialize at least this many keys read them from a single snapshot of the store
+    private static final int SNAPSHOT_MIN_KEYS = 8;
+
+    private final Map<String, PrefBinding> prefKeyMap = new LinkedHashMap<>();
+    // Coalesced method binding -> index of its bit in the generated callback mask
+    private final Map<Binding, Integer> coalescedBindings = new LinkedHashMap<>();
+    private final String classPackage;
+    private final String className;
+    private final String targetClass;
+    private String parentBinder;
+
+    // Set when the binding model is frozen
+    private boolean frozen;
+    private boolean hasListenerBindings;
+    // Keys whose last applied value is kept by each subscriber -> index of the subscriber's fields for it
+    private final Map<PrefBinding, Integer> lastValueIndexes = new LinkedHashMap<>();
+
+    BinderClassFactory(String classPackage, String className, String targetClass) {
+        this.classPackage = classPackage;
+        this.className = className;
+        this.targetClass = targetClass;
+    }
+
+    void addInitBinding(String key, Binding binding) {
+        checkNotFrozen();
+        getOrCreatePrefBinding(key, binding.getType()).addInitBinding(binding);
+        addCoalescedBindingIfNecessary(binding);
+    }
+
+    void addListenerBinding(String key, Binding binding) {
+        checkNotFrozen();
+        getOrCreatePrefBinding(key, binding.getType()).addListenerBinding(binding);
+        addCoalescedBindingIfNecessary(binding);
+    }
+
+    /** @param qualifiedFieldName The qualified name of the static field that holds the key's default value. */
+    void setDefault(String key, String qualifiedFieldName) {
+        checkNotFrozen();
+        prefKeyMap.get(key).setDefaultStaticField(qualifiedFieldName);
+    }
+
+    private void addCoalescedBindingIfNecessary(Binding binding) {
+        if(binding.isCoalesced() && !coalescedBindings.containsKey(binding)) {
+            if(coalescedBindings.size() == MAX_COALESCED_BINDINGS) {
+                throw new IllegalArgumentException("A class may not have more than " + MAX_COALESCED_BINDINGS + " coalesced @BindPref methods");
+            }
+            coalescedBindings.put(binding, coalescedBindings.size());
+        }
+    }
+
+    void setParentBinder(String parentBinder) {
+        checkNotFrozen();
+        this.parentBinder = parentBinder;
+    }
+
+    String getParentBinder() {
+        return parentBinder;
+    }
+
+    private PrefBinding getOrCreatePrefBinding(String key, String typeDef) {
+        PrefBinding binding = prefKeyMap.get(key);
+        if (binding == null) {
+            binding = new PrefBinding(key, getType(key, typeDef));
+            prefKeyMap.put(key, binding);
+        }else if(binding.getType()==null) {
+            binding.setType(getType(key, typeDef));
+        }else if(typeDef!=null && !binding.getType().getFieldTypeDef().equals(typeDef)) {
+            throw new IllegalArgumentException("Inconsistent type definitions for key " + key);
+        }
+
+        return binding;
+    }
+
+    /**
+     * Completes the binding model. It is never modified afterwards, so its source may then be
+     * written from any thread.
+     */
+    void freeze() {
+        hasListenerBindings = hasListenerBindings();
+        for (PrefBinding binding : prefKeyMap.values()) {
+            if(binding.getType() != null && hasUnchangedValueSkips(binding.getListenerBindings())) {
+                lastValueIndexes.put(binding, lastValueIndexes.size());
+            }
+        }
+        frozen = true;
+    }
+
+    private static boolean hasUnchangedValueSkips(Collection<Binding> bindings) {
+        for (Binding binding : bindings) {
+            if(isSkippedWhenUnchanged(binding)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** @return Whether the binding is applied with the key's value, and only when that value changes. */
+    private static boolean isSkippedWhenUnchanged(Binding binding) {
+        return binding.isSkipUnchanged()
+                && (binding.getBindingType() == ElementType.FIELD || binding.getType() != null);
+    }
+
+    private void checkNotFrozen() {
+        if(frozen) {
+            throw new IllegalStateException("Bindings can not be added to " + className + " after it is frozen");
+        }
+    }
+
+    String getFqcn() {
+        return classPackage + "." + className;
+    }
+
+    void writeJava(Writer writer) throws IOException {
+        if(!frozen) {
+            throw new IllegalStateException(className + " must be frozen before its source is written");
+        }
+
+        final CodeWriter out = new CodeWriter(writer);
+
+        out.append("// Generated code from Preference Binder. Do not modify!\n");
+        out.append("package ").append(classPackage).append(";\n\n");
+        emitImports(out);
+        emitClassDefinition(out);
+        emitMemberVariables(out);
+        emitBindMethod(out);
+        emitStopListeningMethod(out);
+        emitPauseMethod(out, "pause");
+        emitPauseMethod(out, "resume");
+        emitPauseMethod(out, "refresh");
+        emitInitializationMethod(out);
+        emitListenerMethod(out);
+        emitSubscriberClass(out);
+        out.append("}\n");
+    }
+
+    boolean hasListenerBindings(){
+        for (PrefBinding binding : prefKeyMap.values()) {
+            if(!binding.getListenerBindings().isEmpty()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void emitImports(CodeWriter out) throws IOException {
+        out.append("import me.denley.preferencebinder.BoundTargets;\n");
+        if(getInitKeyCount() >= SNAPSHOT_MIN_KEYS) {
+            out.append("import me.denley.preferencebinder.PreferenceSnapshot;\n");
+        }
+        out.append("import me.denley.preferencebinder.TargetSubscriber;\n");
+        out.append("import me.denley.preferencebinder.store.PreferenceStore;\n");
+        if (parentBinder == null) {
+            out.append("import me.denley.preferencebinder.PreferenceBinder.Binder;\n");
+        }
+        out.append('\n');
+    }
+
+    private void emitClassDefinition(CodeWriter out) throws IOException {
+        out.append("public class ").append(className);
+        out.append("<T extends ").append(targetClass).append(">");
+
+        if (parentBinder != null) {
+            out.append(" extends ").append(parentBinder).append("<T>");
+        } else {
+            out.append(" implements Binder<T>");
+        }
+        out.append(" {\n");
+    }
+
+    private void emitMemberVariables(CodeWriter out) throws IOException {
+        if(hasListenerBindings) {
+            out.append(INDENT).append("private final BoundTargets<T> boundTargets = new BoundTargets<T>();\n");
+            emitListenerKeys(out);
+        }
+        if(getInitKeyCount() >= SNAPSHOT_MIN_KEYS) {
+            emitInitKeys(out);
+        }
+        out.append("\n");
+    }
+
+    private void emitListenerKeys(CodeWriter out) throws IOException {
+        out.append(INDENT).append("private static final String[] LISTENER_KEYS = {");
+        boolean isFirstKey = true;
+        for (PrefBinding binding : prefKeyMap.values()) {
+            if(!binding.getListenerBindings().isEmpty()) {
+                if(!isFirstKey) {
+                    out.append(", ");
+                }
+                out.append('"').append(binding.getKey()).append('"');
+                isFirstKey = false;
+            }
+        }
+        out.append("};\n");
+    }
+
+    private void emitBindMethod(CodeWriter out) throws IOException {
+        out.append(INDENT)
+                .append("@Override public void bind")
+                .append("(final T target, PreferenceStore prefs, PreferenceStore initialValues, boolean pullChanges) {\n");
+
+        // Emit a call to the superclass binder, if any.
+        if (parentBinder != null) {
+            out.append(INDENT_2).append("super.bind(target, prefs, initialValues, pullChanges);\n\n");
+        }
+
+        // Start listening before reading initial values, so that no changes are missed in between
+        if(hasListenerBindings) {
+            out.append(INDENT_2).append("final Subscriber $subscriber = new Subscriber(target, prefs, pullChanges);\n");
+            out.append(INDENT_2).append("boundTargets.add($subscriber);\n\n");
+        }
+
+        // Loop over each initialization and emit it.
+        if(!hasListenerBindings) {
+            out.append(INDENT_2).append("initializeTarget(target, prefs, initialValues);\n");
+        } else {
+            out.append(INDENT_2).append("initializeTarget($subscriber, target, prefs, initialValues);\n");
+        }
+
+        out.append(INDENT).append("}\n\n");
+    }
+
+    private void emitInitializationMethod(CodeWriter out) throws IOException {
+        out.append(INDENT).append("@SuppressWarnings(\"unchecked\")\n");
+        if(!hasListenerBindings) {
+            out.append(INDENT).append("private void initializeTarget(T target, final PreferenceStore prefs, PreferenceStore $initialValues) {\n");
+        } else {
+            out.append(INDENT).append("private void initializeTarget(final Subscriber $subscriber, T target, final PreferenceStore prefs, PreferenceStore $initialValues) {\n");
+        }
+        emitSnapshot(out);
+        emitCoalescedInitializationFlags(out);
+        for (PrefBinding binding : prefKeyMap.values()) {
+            emitInitializationIfNecessary(out, binding);
+        }
+        emitCoalescedInitializationCalls(out);
+        out.append(INDENT).append("}\n\n");
+    }
+
+    private int getInitKeyCount() {
+        int initKeyCount = 0;
+        for (PrefBinding binding : prefKeyMap.values()) {
+            if(!binding.getInitBindings().isEmpty()) {
+                initKeyCount++;
+            }
+        }
+        return initKeyCount;
+    }
+
+    private void emitInitKeys(CodeWriter out) throws IOException {
+        out.append(INDENT).append("private static final String[] INIT_KEYS = {");
+        boolean isFirstKey = true;
+        for (PrefBinding binding : prefKeyMap.values()) {
+            if(!binding.getInitBindings().isEmpty()) {
+                if(!isFirstKey) {
+                    out.append(", ");
+                }
+                out.append('"').append(binding.getKey()).append('"');
+                isFirstKey = false;
+            }
+        }
+        out.append("};\n");
+    }
+
+    private void emitSnapshot(CodeWriter out) throws IOException {
+        // Initial values may be given (e.g. by an asynchronous bind, which reads them in the background).
+        // Locals that aren't named after keys start with '$', so that they never clash with those that are.
+        final int initKeyCount = getInitKeyCount();
+        if(initKeyCount >= SNAPSHOT_MIN_KEYS) {
+            // Read all values at once, rather than querying the store twice for every key
+            out.append(INDENT_2).append("final PreferenceStore $values = $initialValues != null ? $initialValues : PreferenceSnapshot.of(prefs, INIT_KEYS);\n\n");
+        } else if(initKeyCount > 0) {
+            // Some stores can only take a snapshot by copying every value, which costs more than a few queries
+            out.append(INDENT_2).append("final PreferenceStore $values = $initialValues != null ? $initialValues : prefs;\n\n");
+        }
+    }
+
+    private boolean hasCoalescedInitBinding(Binding binding) {
+        for (PrefBinding prefBinding : prefKeyMap.values()) {
+            if(prefBinding.getInitBindings().contains(binding)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void emitCoalescedInitializationFlags(CodeWriter out) throws IOException {
+        boolean hasFlags = false;
+        for (Map.Entry<Binding, Integer> entry : coalescedBindings.entrySet()) {
+            if(hasCoalescedInitBinding(entry.getKey())) {
+                out.append(INDENT_2).append("boolean $coalesced").append(entry.getValue()).append(" = false;\n");
+                hasFlags = true;
+            }
+        }
+        if(hasFlags) {
+            out.append("\n");
+        }
+    }
+
+    private void emitCoalescedInitializationCalls(CodeWriter out) throws IOException {
+        // Coalesced methods are called once, after all fields have been initialized
+        for (Map.Entry<Binding, Integer> entry : coalescedBindings.entrySet()) {
+            if(hasCoalescedInitBinding(entry.getKey())) {
+                out.append(INDENT_2).append("if ($coalesced").append(entry.getValue()).append(") {\n");
+                out.append(INDENT_3);
+                emitMethodCall(out, null, entry.getKey());
+                out.append(INDENT_2).append("}\n");
+            }
+        }
+    }
+
+    private void emitInitializationIfNecessary(CodeWriter out, PrefBinding bindings) throws IOException {
+        Collection<Binding> initializationBindings = bindings.getInitBindings();
+        if (!initializationBindings.isEmpty()) {
+            emitInitialization(out, bindings, initializationBindings);
+        }
+
+        // Bind all widget listeners
+        for(Binding binding : bindings.getListenerBindings()) {
+            final String bindFormat = binding.getWidgetBindingType().listenerCall;
+            if(bindFormat != null) {
+                // The subscriber flushes the writer's pending value when the target is unbound
+                final String writer = "$subscriber.addWidgetValueWriter(new me.denley.preferencebinder.WidgetValueWriter(prefs, \"" + bindings.getKey() + "\", "
+                        + WritePolicy.class.getCanonicalName() + "." + binding.getWritePolicy().name() + ", "
+                        + binding.getWriteDelay() + "))";
+                out.append(INDENT_2)
+                        .appendFormat(bindFormat, "target." + binding.getName(), writer)
+                        .append(";\n");
+            }
+        }
+
+        out.append("\n");
+    }
+
+    private void emitInitialization(CodeWriter out, PrefBinding binding, Collection<Binding> initializationBindings) throws IOException {
+        out.append(INDENT_2)
+                .append("if ($values.contains(\"")
+                .append(binding.getKey())
+                .append("\")) {\n");
+
+        if(binding.getType()!=null) {
+            out.append(INDENT_3);
+            emitInitialValueLoad(out, "$values", binding);
+        }
+
+        emitInitializationSetters(out, binding.getKey(), initializationBindings);
+        emitInitialLastValueUpdate(out, binding);
+        out.append(INDENT_2).append("}");
+        emitDefaultInitialization(out, binding, initializationBindings);
+        out.append("\n");
+    }
+
+    private void emitDefaultInitialization(CodeWriter out, PrefBinding binding, Collection<Binding> initializationBindings) throws IOException {
+        if(binding.getDefaultStaticField()!=null) {
+            out.append(" else {\n");
+            if(binding.getType()!=null) {
+                out.append(INDENT_3);
+                emitDefaultValueLoad(out, binding);
+            }
+            emitInitializationSetters(out, binding.getKey(), initializationBindings);
+            emitInitialLastValueUpdate(out, binding);
+            out.append(INDENT_2).append("}");
+        }
+    }
+
+    private void emitInitializationSetters(CodeWriter out, String assignment, Collection<Binding> initializationBindings) throws IOException {
+        // Update fields before making method calls
+        for (Binding binding : initializationBindings) {
+            if(binding.getBindingType() == ElementType.FIELD) {
+                out.append(INDENT_3);
+                emitFieldUpdate(out, assignment, binding);
+            }
+        }
+        for (Binding binding : initializationBindings) {
+            if(binding.getBindingType() == ElementType.METHOD) {
+                out.append(INDENT_3);
+                if(binding.isCoalesced()) {
+                    out.append("$coalesced").append(coalescedBindings.get(binding)).append(" = true;\n");
+                } else {
+                    emitMethodCall(out, assignment, binding);
+                }
+            }
+        }
+    }
+
+    private void emitDefaultValueLoad(CodeWriter out, PrefBinding binding) throws IOException {
+        out.append(binding.getType().getFieldTypeDef())
+                .append(" ")
+                .append(binding.getKey())
+                .append(" = ")
+                .append(binding.getDefaultStaticField())
+                .append(";\n");
+    }
+
+    private void emitInitialValueLoad(CodeWriter out, String store, PrefBinding binding) throws IOException {
+        out.append(binding.getType().getFieldTypeDef())
+                .append(" ")
+                .append(binding.getKey())
+                .append(" = ")
+                .append(store)
+                .append(".")
+                .append(binding.getType().getSharedPrefsMethodName())
+                .append("(\"")
+                .append(binding.getKey())
+                .append("\", ")
+                .append(binding.getType().getDefaultValue())
+                .append(");\n");
+    }
+
+    private void emitSubscriberClass(CodeWriter out) throws IOException {
+        if(!hasListenerBindings) {
+            return;
+        }
+
+        out.append(INDENT).append("private final class Subscriber extends TargetSubscriber<T> {\n");
+        emitLastValueFields(out);
+        out.append(INDENT_2).append("Subscriber(T target, PreferenceStore prefs, boolean pullChanges) {\n")
+                .append(INDENT_3).append("super(boundTargets, target, prefs, LISTENER_KEYS, pullChanges);\n")
+                .append(INDENT_2).append("}\n\n")
+                .append(INDENT_2)
+                .append("@Override protected void onPreferenceChanged(T target, PreferenceStore prefs, String key) {\n")
+                .append(INDENT_3)
+                .append("updateTarget(this, target, prefs, key);\n")
+                .append(INDENT_2)
+                .append("}\n");
+        emitKeyIndexMethod(out);
+        emitCoalescedCallbacksMethod(out);
+        out.append(INDENT).append("}\n\n");
+    }
+
+    private void emitLastValueFields(CodeWriter out) throws IOException {
+        if(lastValueIndexes.isEmpty()) {
+            return;
+        }
+
+        // The values last applied to the target, so that unchanged values aren't applied again
+        for (Map.Entry<PrefBinding, Integer> entry : lastValueIndexes.entrySet()) {
+            out.append(INDENT_2)
+                    .append(entry.getKey().getType().getFieldTypeDef())
+                    .append(" lastValue")
+                    .append(entry.getValue())
+                    .append(";\n")
+                    .append(INDENT_2)
+                    .append("boolean hasLastValue")
+                    .append(entry.getValue())
+                    .append(";\n");
+        }
+        out.append("\n");
+    }
+
+    // Each key's index is its position in LISTENER_KEYS
+    private void emitKeyIndexMethod(CodeWriter out) throws IOException {
+        out.append("\n")
+                .append(INDENT_2)
+                .append("@Override protected int keyIndex(String key) {\n")
+                .append(INDENT_3)
+                .append("switch (key) {\n");
+        int index = 0;
+        for (PrefBinding binding : prefKeyMap.values()) {
+            if(!binding.getListenerBindings().isEmpty()) {
+                out.append(INDENT_4)
+                        .append("case \"")
+                        .append(binding.getKey())
+                        .append("\": return ")
+                        .append(index++)
+                        .append(";\n");
+            }
+        }
+        out.append(INDENT_3).append("}\n")
+                .append(INDENT_3).append("return -1;\n")
+                .append(INDENT_2).append("}\n");
+    }
+
+    private void emitCoalescedCallbacksMethod(CodeWriter out) throws IOException {
+        if(coalescedBindings.isEmpty()) {
+            return;
+        }
+
+        out.append("\n")
+                .append(INDENT_2)
+                .append("@Override protected void onCoalescedCallbacks(T target, int callbacks) {\n");
+        for (Map.Entry<Binding, Integer> entry : coalescedBindings.entrySet()) {
+            out.append(INDENT_3)
+                    .append("if ((callbacks & (1 << ")
+                    .append(entry.getValue())
+                    .append(")) != 0) {\n")
+                    .append(INDENT_4);
+            emitMethodCall(out, null, entry.getKey());
+            out.append(INDENT_3).append("}\n");
+        }
+        out.append(INDENT_2).append("}\n");
+    }
+
+    private void emitListenerMethod(CodeWriter out) throws IOException {
+        if(hasListenerBindings) {
+            out.append(INDENT)
+                    .append("private void updateTarget(Subscriber $subscriber, T target, PreferenceStore prefs, String key) {\n");
+            emitListenerbindings(out);
+            out.append("\n")
+                    .append(INDENT)
+                    .append("};\n\n");
+        }
+    }
+
+    private void emitListenerbindings(CodeWriter out) throws IOException {
+        // Switch on the key, so that dispatch cost doesn't grow with the number of bound keys
+        out.append(INDENT_2).append("switch (key) {\n");
+
+        for (PrefBinding binding : prefKeyMap.values()) {
+            Collection<Binding> bindings = binding.getListenerBindings();
+
+            if(!bindings.isEmpty()) {
+                emitListenerbindingCase(out, binding, bindings);
+            }
+        }
+
+        out.append(INDENT_2).append("}");
+    }
+
+    private void emitStopListeningMethod(CodeWriter out) throws IOException {
+        out.append(INDENT)
+                .append("@Override public void unbind(T target) {\n");
+
+        // Emit a call to the superclass, if any.
+        if (parentBinder != null) {
+            out.append(INDENT_2).append("super.unbind(target);\n\n");
+        }
+
+        if(hasListenerBindings) {
+            out.append(INDENT_2).append("boundTargets.remove(target);\n");
+
+            // Un-bind all widget listeners
+            for (PrefBinding prefKeyBinding : prefKeyMap.values()) {
+                for(Binding binding : prefKeyBinding.getListenerBindings()) {
+                    final String unbindFormat = binding.getWidgetBindingType().listenerUnbind;
+                    if(unbindFormat != null) {
+                        out.append(INDENT_2)
+                                .appendFormat(unbindFormat, "target." + binding.getName())
+                                .append(";\n");
+                    }
+                }
+            }
+        }
+
+        out.append(INDENT).append("}\n\n");
+    }
+
+    // Emits pause, resume or refresh, which only affect the subscribers of this binder and its superclass binder
+    private void emitPauseMethod(CodeWriter out, String methodName) throws IOException {
+        out.append(INDENT)
+                .appendFormat("@Override public void %s(T target) {\n", methodName);
+
+        if (parentBinder != null) {
+            out.append(INDENT_2).appendFormat("super.%s(target);\n", methodName);
+        }
+        if(hasListenerBindings) {
+            out.append(INDENT_2).appendFormat("boundTargets.%s(target);\n", methodName);
+        }
+
+        out.append(INDENT).append("}\n\n");
+    }
+
+    private void emitListenerbindingCase(CodeWriter out, PrefBinding binding, Collection<Binding> bindings) throws IOException {
+        out.append(INDENT_3)
+                .append("case \"")
+                .append(binding.getKey())
+                .append("\":\n");
+        emitListenerBinding(out, binding, bindings);
+        out.append(INDENT_4).append("break;\n");
+    }
+
+    private void emitListenerBinding(CodeWriter out, PrefBinding binding, Collection<Binding> bindings) throws IOException {
+        // Don't bother with the if block if there's nothing to put inside it
+        if(hasNonEmptyBinding(bindings)) {
+            out.append(INDENT_4)
+                    .append("if (prefs.contains(\"")
+                    .append(binding.getKey())
+                    .append("\")) {\n");
+
+            if (binding.getType() != null) {
+                out.append(INDENT_5);
+                emitInitialValueLoad(out, "prefs", binding);
+            }
+
+            emitListenerBindings(out, binding, bindings);
+            out.append(INDENT_4).append("}");
+            emitListenerDefaultAssignment(out, binding, bindings);
+            out.append("\n");
+        }
+        emitEmptyValueListenerBindings(out, bindings);
+    }
+
+    private boolean hasNonEmptyBinding(Collection<Binding> bindings) {
+        for(Binding binding : bindings) {
+            if(binding.getBindingType() != ElementType.METHOD || binding.getType() != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void emitListenerDefaultAssignment(CodeWriter out, PrefBinding binding, Collection<Binding> bindings) throws IOException {
+        if(binding.getDefaultStaticField()!=null) {
+            out.append(" else {\n");
+            if (binding.getType() != null) {
+                out.append(INDENT_5);
+                emitDefaultValueLoad(out, binding);
+            }
+            emitListenerBindings(out, binding, bindings);
+            out.append(INDENT_4).append("}");
+        }
+    }
+
+    private void emitListenerBindings(CodeWriter out, PrefBinding prefBinding, Collection<Binding> bindings) throws IOException {
+        final String assignment = prefBinding.getKey();
+        final Integer lastValueIndex = lastValueIndexes.get(prefBinding);
+        if(lastValueIndex == null) {
+            emitListenerBindings(out, INDENT_5, assignment, bindings, false);
+            return;
+        }
+
+        out.append(INDENT_5)
+                .append("if (!$subscriber.hasLastValue")
+                .append(lastValueIndex)
+                .append(" || ");
+        emitValueChangedCondition(out, prefBinding, lastValueIndex);
+        out.append(") {\n");
+        emitLastValueUpdate(out, INDENT_6, prefBinding);
+        emitListenerBindings(out, INDENT_6, assignment, bindings, true);
+        out.append(INDENT_5).append("}\n");
+        emitListenerBindings(out, INDENT_5, assignment, bindings, false);
+    }
+
+    /**
+     * @param skippedWhenUnchanged Whether to emit the bindings that are skipped when their value is
+     *                             unchanged (when the key's last value is kept), or the others.
+     */
+    private void emitListenerBindings(CodeWriter out, String indent, String assignment, Collection<Binding> bindings,
+                                      boolean skippedWhenUnchanged) throws IOException {
+        // Update fields before method calls
+        for (Binding binding : bindings) {
+            if(binding.getBindingType() == ElementType.FIELD && isSkippedWhenUnchanged(binding) == skippedWhenUnchanged) {
+                emitListenerFieldUpdate(out, indent, assignment, binding);
+            }
+        }
+        for (Binding binding : bindings) {
+            if(binding.getBindingType() == ElementType.METHOD && binding.getType() != null
+                    && isSkippedWhenUnchanged(binding) == skippedWhenUnchanged) {
+                out.append(indent);
+                emitMethodCall(out, assignment, binding);
+            }
+        }
+    }
+
+    private void emitValueChangedCondition(CodeWriter out, PrefBinding binding, int lastValueIndex) throws IOException {
+        final PrefType type = binding.getType();
+        if(!type.getFieldTypeDef().equals(type.getObjectTypeDef())) {
+            // Primitive values are compared without boxing
+            out.append("$subscriber.lastValue").append(lastValueIndex).append(" != ").append(binding.getKey());
+        } else {
+            out.append("!(")
+                    .append(binding.getKey())
+                    .append(" == null ? $subscriber.lastValue")
+                    .append(lastValueIndex)
+                    .append(" == null : ")
+                    .append(binding.getKey())
+                    .append(".equals($subscriber.lastValue")
+                    .append(lastValueIndex)
+                    .append("))");
+        }
+    }
+
+    /**
+     * Keeps the initial value as the key's last value, but only if every binding that skips
+     * unchanged values has just been given it. Otherwise, a binding that only listens (init = false)
+     * would skip a first change that carries the initial value, which it has never been given.
+     */
+    private void emitInitialLastValueUpdate(CodeWriter out, PrefBinding binding) throws IOException {
+        for (Binding listenerBinding : binding.getListenerBindings()) {
+            if(isSkippedWhenUnchanged(listenerBinding) && !binding.getInitBindings().contains(listenerBinding)) {
+                return;
+            }
+        }
+        emitLastValueUpdate(out, INDENT_3, binding);
+    }
+
+    private void emitLastValueUpdate(CodeWriter out, String indent, PrefBinding binding) throws IOException {
+        final Integer lastValueIndex = lastValueIndexes.get(binding);
+        if(lastValueIndex == null) {
+            return;
+        }
+
+        out.append(indent)
+                .append("$subscriber.lastValue")
+                .append(lastValueIndex)
+                .append(" = ")
+                .append(binding.getKey())
+                .append(";\n")
+                .append(indent)
+                .append("$subscriber.hasLastValue")
+                .append(lastValueIndex)
+                .append(" = true;\n");
+    }
+
+    private void emitEmptyValueListenerBindings(CodeWriter out, Collection<Binding> bindings) throws IOException {
+        for (Binding binding : bindings) {
+            if(binding.getBindingType() == ElementType.METHOD && binding.getType()==null) {
+                out.append(INDENT_4);
+                if(binding.isCoalesced()) {
+                    out.append("$subscriber.postCoalescedCallbacks(1 << ")
+                            .append(coalescedBindings.get(binding))
+                            .append(");\n");
+                } else {
+                    emitMethodCall(out, null, binding);
+                }
+            }
+        }
+    }
+
+    private void emitListenerFieldUpdate(CodeWriter out, String indent, String assignment, Binding binding) throws IOException {
+        final String currentValueFormat = binding.getWidgetBindingType().currentValueCall;
+        if(currentValueFormat == null) {
+            out.append(indent);
+            emitFieldUpdate(out, assignment, binding);
+            return;
+        }
+
+        // Two-way widgets already show the values that they write back, so don't re-apply them
+        out.append(indent)
+                .append("if (")
+                .appendFormat(currentValueFormat, "target." + binding.getName())
+                .append(" != ")
+                .append(assignment)
+                .append(") {\n")
+                .append(indent).append(INDENT);
+        emitFieldUpdate(out, assignment, binding);
+        out.append(indent).append("}\n");
+    }
+
+    private void emitFieldUpdate(CodeWriter out, String assignment, Binding binding) throws IOException {
+        final String bindingFormat = binding.getWidgetBindingType().bindingCall;
+        final String targetName = "target." + binding.getName();
+
+        out.appendFormat(bindingFormat, targetName, assignment).append(";\n");
+    }
+
+    private void emitMethodCall(CodeWriter out, String assignment, Binding binding) throws IOException {
+        out.append("target.")
+                .append(binding.getName())
+                .append("(");
+        if(binding.getType()!=null) {
+            out.append(assignment);
+        }
+        out.append(");\n");
+    }
+
+    private PrefType getType(String key, String typeDef){
+        if(typeDef==null){
+            return null;
+        }
+
+        for(PrefType type:PrefType.values()){
+            if(type.getFieldTypeDef().equals(typeDef)){
+                return type;
+            }
+        }
+
+        throw new IllegalArgumentException("Invalid preference value type ("
+                +typeDef+") for key "+key);
+    }
+
+}
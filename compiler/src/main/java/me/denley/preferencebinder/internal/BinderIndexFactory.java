@@ -0,0 +1,78 @@
+package me.denley.preferencebinder.internal;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Generates a class mapping target class names to the binders that should be used for them. */
+class BinderIndexFactory {
+    private static final String INDENT = "    ";
+    private static final String INDENT_2 = "        ";
+    private static final String INDENT_3 = "            ";
+    private static final String INDENT_4 = "                ";
+
+    // Binder class name -> target class names that use it
+    private final Map<String, List<String>> binderTargets = new LinkedHashMap<>();
+    private final String classPackage;
+    private final String className;
+
+    BinderIndexFactory(String fqcn) {
+        final int lastDot = fqcn.lastIndexOf('.');
+        this.classPackage = lastDot == -1 ? null : fqcn.substring(0, lastDot);
+        this.className = fqcn.substring(lastDot + 1);
+    }
+
+    /**
+     * @param targetClassName The binary name of the target class (as returned by Class.getName()).
+     * @param binderClassName The fully qualified name of the binder for the target, or of the binder for its nearest bound ancestor.
+     */
+    void addEntry(String targetClassName, String binderClassName) {
+        List<String> targets = binderTargets.get(binderClassName);
+        if (targets == null) {
+            targets = new ArrayList<>();
+            binderTargets.put(binderClassName, targets);
+        }
+        targets.add(targetClassName);
+    }
+
+    String getFqcn() {
+        return classPackage == null ? className : classPackage + "." + className;
+    }
+
+    void writeJava(Writer writer) throws IOException {
+        final CodeWriter out = new CodeWriter(writer);
+
+        out.append("// Generated code from Preference Binder. Do not modify!\n");
+        if (classPackage != null) {
+            out.append("package ").append(classPackage).append(";\n\n");
+        }
+        out.append("import me.denley.preferencebinder.PreferenceBinder.Binder;\n");
+        out.append("import me.denley.preferencebinder.PreferenceBinder.BinderIndex;\n\n");
+        out.append("public final class ").append(className).append(" implements BinderIndex {\n");
+        emitGetBinderMethod(out);
+        out.append("}\n");
+    }
+
+    private void emitGetBinderMethod(CodeWriter out) throws IOException {
+        // Binders are created raw, as a target's type arguments may not be accessible from the index's package
+        out.append(INDENT).append("@SuppressWarnings(\"rawtypes\")\n");
+        out.append(INDENT).append("@Override public Binder<?> getBinder(String targetClassName) {\n");
+        out.append(INDENT_2).append("switch (targetClassName) {\n");
+
+        for (Map.Entry<String, List<String>> entry : binderTargets.entrySet()) {
+            for (String targetClassName : entry.getValue()) {
+                out.append(INDENT_3).append("case \"").append(targetClassName).append("\":\n");
+            }
+            out.append(INDENT_4).append("return new ").append(entry.getKey()).append("();\n");
+        }
+
+        out.append(INDENT_3).append("default:\n");
+        out.append(INDENT_4).append("return null;\n");
+        out.append(INDENT_2).append("}\n");
+        out.append(INDENT).append("}\n");
+    }
+
+}
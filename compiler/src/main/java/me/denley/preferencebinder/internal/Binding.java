@@ -0,0 +1,68 @@
+package me.denley.preferencebinder.internal;
+
+import java.lang.annotation.ElementType;
+
+/** A single field or method binding. */
+class Binding {
+
+    private final String name;
+    private final String type;
+    private final ElementType elementType;
+    private final WidgetBindingType bindingType;
+    private final boolean coalesce;
+    private final WritePolicy writePolicy;
+    private final long writeDelay;
+    private final boolean skipUnchanged;
+
+    public Binding(String name, String type, ElementType elementType, WidgetBindingType bindingType, boolean coalesce,
+                   WritePolicy writePolicy, long writeDelay, boolean skipUnchanged) {
+        this.name = name;
+        this.type = type;
+        this.elementType = elementType;
+        this.bindingType = bindingType;
+        this.coalesce = coalesce;
+        this.writePolicy = writePolicy;
+        this.writeDelay = writeDelay;
+        this.skipUnchanged = skipUnchanged;
+    }
+
+    /** The name of the field or method */
+    String getName(){
+        return name;
+    }
+
+    /** The fully qualified object type of the field or method parameter (or primative) */
+    String getType(){
+        return type;
+    }
+
+    /** Either ElementType.FIELD or ElementType.METHOD */
+    ElementType getBindingType(){
+        return elementType;
+    }
+
+    WidgetBindingType getWidgetBindingType() {
+        return bindingType;
+    }
+
+    /** Whether method calls for this binding are deferred and coalesced into one call per main loop iteration */
+    boolean isCoalesced() {
+        return coalesce;
+    }
+
+    /** When user changes to a two-way widget binding are written back to SharedPreferences */
+    WritePolicy getWritePolicy() {
+        return writePolicy;
+    }
+
+    /** The delay (in milliseconds) used by the write policy, if applicable */
+    long getWriteDelay() {
+        return writeDelay;
+    }
+
+    /** Whether updates with a value equal to the last applied value are skipped */
+    boolean isSkipUnchanged() {
+        return skipUnchanged;
+    }
+
+}
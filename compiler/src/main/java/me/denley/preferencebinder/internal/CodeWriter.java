@@ -0,0 +1,50 @@
+package me.denley.preferencebinder.internal;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes generated source code straight to its output file, so that a generated class never has
+ * to be held in memory as a whole.
+ */
+final class CodeWriter {
+    private final Writer out;
+
+    CodeWriter(Writer out) {
+        this.out = out;
+    }
+
+    CodeWriter append(String code) throws IOException {
+        out.write(code);
+        return this;
+    }
+
+    CodeWriter append(char code) throws IOException {
+        out.write(code);
+        return this;
+    }
+
+    CodeWriter append(int value) throws IOException {
+        out.write(Integer.toString(value));
+        return this;
+    }
+
+    /**
+     * Writes a code template, replacing each "%s" in it with the next argument. This gives the same
+     * output as String.format for the templates in {@link WidgetBindingType}, which use no other
+     * format specifiers, without formatting into an intermediate string.
+     */
+    CodeWriter appendFormat(String template, String... args) throws IOException {
+        int start = 0;
+        int argIndex = 0;
+        int placeholder;
+        while ((placeholder = template.indexOf("%s", start)) != -1) {
+            out.write(template, start, placeholder - start);
+            out.write(String.valueOf(args[argIndex++]));
+            start = placeholder + 2;
+        }
+        out.write(template, start, template.length() - start);
+        return this;
+    }
+
+}
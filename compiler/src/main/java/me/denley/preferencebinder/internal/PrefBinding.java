@@ -7,14 +7,13 @@ import java.util.Set;
 public class PrefBinding {
     private final String key;
     private PrefType type;
-    private final String defaultStaticField;
+    private String defaultStaticField;
     private final Set<Binding> initBindings = new LinkedHashSet<>();
     private final Set<Binding> listenerBindings = new LinkedHashSet<>();
 
-    PrefBinding(String key, PrefType type, String defaultField) {
+    PrefBinding(String key, PrefType type) {
         this.key = key;
         this.type = type;
-        this.defaultStaticField = defaultField;
     }
 
     public String getKey() {
@@ -29,10 +28,15 @@ public class PrefBinding {
         this.type = type;
     }
 
+    /** @return The qualified name of the key's {@link me.denley.preferencebinder.PreferenceDefault} field, or null if it has none. */
     public String getDefaultStaticField() {
         return defaultStaticField;
     }
 
+    public void setDefaultStaticField(String defaultStaticField) {
+        this.defaultStaticField = defaultStaticField;
+    }
+
     public Collection<Binding> getInitBindings() {
         return initBindings;
     }
@@ -0,0 +1,116 @@
+package me.denley.preferencebinder.internal;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.JavaFileObject;
+
+import me.denley.preferencebinder.BindPref;
+
+import static javax.lang.model.element.ElementKind.CLASS;
+import static javax.tools.Diagnostic.Kind.ERROR;
+
+/**
+ * Generates the optional binder index, which maps every bound class in a module to its binder.
+ *
+ * The index is built from every class in the module, which an incremental build doesn't provide,
+ * so this processor is only "aggregating" for incremental compilation when it has no index to
+ * generate. Modules that generate an index are compiled non-incrementally.
+ */
+public class PreferenceAggregateProcessor extends AbstractProcessor {
+
+    public static final String OPTION_INDEX = "preferenceBinderIndex";
+    // Declared by "dynamic" processors that support incremental compilation as an aggregating processor
+    private static final String GRADLE_AGGREGATING_OPTION = "org.gradle.annotation.processing.aggregating";
+
+
+    private Elements elementUtils;
+    private Filer filer;
+    private String indexClassName;
+    private boolean indexWritten;
+
+    @Override public synchronized void init(ProcessingEnvironment env) {
+        super.init(env);
+        elementUtils = env.getElementUtils();
+        filer = env.getFiler();
+        indexClassName = env.getOptions().get(OPTION_INDEX);
+    }
+
+    @Override public Set<String> getSupportedOptions() {
+        final Set<String> options = new LinkedHashSet<>();
+        options.add(OPTION_INDEX);
+        if (indexClassName == null) {
+            options.add(GRADLE_AGGREGATING_OPTION);
+        }
+        return options;
+    }
+
+    @Override public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(BindPref.class.getCanonicalName());
+    }
+
+    @Override public boolean process(Set<? extends TypeElement> elements, RoundEnvironment env) {
+        if (indexClassName != null && !indexWritten && !env.getRootElements().isEmpty()) {
+            writeIndex(env);
+        }
+
+        // Left for PreferenceBinderProcessor to claim, which is registered after this processor
+        return false;
+    }
+
+    /**
+     * Indexes every class in the module that has a binder, including subclasses that only inherit
+     * their bindings. The first round's root elements are all of the module's classes, as this
+     * processor is not incremental when it generates an index.
+     */
+    private void writeIndex(RoundEnvironment env) {
+        final BinderIndexFactory index = new BinderIndexFactory(indexClassName);
+        for (TypeElement typeElement : ElementFilter.typesIn(env.getRootElements())) {
+            addIndexEntries(index, typeElement);
+        }
+
+        try {
+            JavaFileObject jfo = filer.createSourceFile(index.getFqcn());
+            Writer writer = new BufferedWriter(jfo.openWriter());
+            index.writeJava(writer);
+            writer.flush();
+            writer.close();
+            indexWritten = true;
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(ERROR, "Unable to write binder index " + indexClassName + ": " + e.getMessage());
+        }
+    }
+
+    /** Adds index entries for the given type and its nested types. */
+    private void addIndexEntries(BinderIndexFactory index, TypeElement typeElement) {
+        if (typeElement.getKind() == CLASS && !typeElement.getModifiers().contains(Modifier.ABSTRACT)) {
+            final TypeElement target = TargetTypes.findNearestTarget(typeElement);
+            if (target != null) {
+                index.addEntry(elementUtils.getBinaryName(typeElement).toString(),
+                        TargetTypes.getBinderClassName(elementUtils, target));
+            }
+        }
+
+        for (TypeElement enclosedType : ElementFilter.typesIn(typeElement.getEnclosedElements())) {
+            addIndexEntries(index, enclosedType);
+        }
+    }
+
+    @Override public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+}
@@ -1,16 +1,22 @@
 package me.denley.preferencebinder.internal;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.lang.annotation.Annotation;
 import java.lang.annotation.ElementType;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.Filer;
@@ -22,9 +28,6 @@ import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
-import javax.lang.model.type.DeclaredType;
-import javax.lang.model.type.TypeKind;
-import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
 import javax.tools.JavaFileObject;
 
@@ -43,12 +46,17 @@ public class PreferenceBinderProcessor extends AbstractProcessor {
     public static final String ANDROID_PREFIX = "android.";
     public static final String JAVA_PREFIX = "java.";
 
+    // Rendering in parallel only pays off once there are enough binders to share between threads
+    private static final int PARALLEL_RENDER_THRESHOLD = 64;
+
 
     private Elements elementUtils;
     private Filer filer;
 
     private Map<TypeElement, BinderClassFactory> targetClassMap;
-    private Set<String> targetClassNames;
+    // Preference key -> @PreferenceDefault field, kept for all rounds
+    private final Map<String, Element> defaultFields = new LinkedHashMap<>();
+    private boolean bindersWritten;
 
     @Override public synchronized void init(ProcessingEnvironment env) {
         super.init(env);
@@ -63,82 +71,124 @@ public class PreferenceBinderProcessor extends AbstractProcessor {
         return supportTypes;
     }
 
+    /**
+     * Generates a binder for each class with {@link BindPref} annotations. Binders refer to the
+     * {@link PreferenceDefault} fields of their keys directly, so a binder also depends on the
+     * classes that declare its defaults, and this processor is "aggregating" for incremental
+     * compilation. The binder index is left to {@link PreferenceAggregateProcessor}.
+     */
     @Override public boolean process(Set<? extends TypeElement> elements, RoundEnvironment env) {
         targetClassMap = new LinkedHashMap<>();
-        targetClassNames = new LinkedHashSet<>();
-        BinderClassFactory.clearDefaults();
 
-        Map<TypeElement, BinderClassFactory> targetClassMap = findAndParseAnnotations(env);
+        findAndParseDefaultFields(env);
+        findAndParseBindPreferenceAnnotations(env);
+        findAndSetParentBinders();
+
+        for (BinderClassFactory binder : targetClassMap.values()) {
+            binder.freeze();
+        }
+
+        if (targetClassMap.size() < PARALLEL_RENDER_THRESHOLD) {
+            writeBinders();
+        } else {
+            renderAndWriteBinders();
+        }
+        bindersWritten |= !targetClassMap.isEmpty();
+
+        return true;
+    }
 
+    /** Writes each binder's source straight to its file, on the processing thread. */
+    private void writeBinders() {
         for (Map.Entry<TypeElement, BinderClassFactory> entry : targetClassMap.entrySet()) {
             TypeElement typeElement = entry.getKey();
             BinderClassFactory binder = entry.getValue();
 
             try {
                 JavaFileObject jfo = filer.createSourceFile(binder.getFqcn(), typeElement);
-                Writer writer = jfo.openWriter();
-                writer.write(binder.brewJava());
+                // Buffered, as the generated source is written in many small pieces
+                Writer writer = new BufferedWriter(jfo.openWriter());
+                binder.writeJava(writer);
                 writer.flush();
                 writer.close();
             } catch (IOException e) {
                 error(typeElement, "Unable to write binder for type %s: %s", typeElement, e.getMessage());
             }
         }
-
-        return true;
-    }
-
-    private Map<TypeElement, BinderClassFactory> findAndParseAnnotations(RoundEnvironment env) {
-        findAndParseDefaultFieldNames(env);
-        findAndParseBindPreferenceAnnotations(env);
-        findAndSetParentBinders();
-        return targetClassMap;
-    }
-
-    private void findAndParseDefaultFieldNames(RoundEnvironment env) {
-        Set<? extends Element> defaultFieldNameAnnotations = env.getElementsAnnotatedWith(PreferenceDefault.class);
-        parseDefaultFieldsNames(defaultFieldNameAnnotations);
-    }
-
-    private void parseDefaultFieldsNames(Set<? extends Element> defaultFieldNameAnnotations){
-        for (Element element : defaultFieldNameAnnotations) {
-            parseDefaultFieldNameOrFail(element);
-        }
     }
 
-    private void parseDefaultFieldNameOrFail(Element annotatedElement) {
+    /**
+     * Renders the binders' sources in parallel, and writes them on the processing thread (as the
+     * Filer is not thread-safe). Sources are written in the same order as by {@link #writeBinders()},
+     * so the output doesn't depend on how rendering is scheduled.
+     */
+    private void renderAndWriteBinders() {
+        final ForkJoinPool pool = new ForkJoinPool();
         try {
-            parseDefaultFieldName(annotatedElement);
-        } catch (Exception e) {
-            StringWriter stackTrace = new StringWriter();
-            e.printStackTrace(new PrintWriter(stackTrace));
+            final List<Future<String>> sources = new ArrayList<>(targetClassMap.size());
+            for (final BinderClassFactory binder : targetClassMap.values()) {
+                sources.add(pool.submit(new Callable<String>() {
+                    @Override public String call() throws IOException {
+                        final StringWriter source = new StringWriter();
+                        binder.writeJava(source);
+                        return source.toString();
+                    }
+                }));
+            }
 
-            error(annotatedElement, "Unable to load default preference value from @PreferenceDefault.\n\n%s", stackTrace);
+            int index = 0;
+            for (Map.Entry<TypeElement, BinderClassFactory> entry : targetClassMap.entrySet()) {
+                TypeElement typeElement = entry.getKey();
+                BinderClassFactory binder = entry.getValue();
+                Future<String> source = sources.get(index++);
+
+                try {
+                    JavaFileObject jfo = filer.createSourceFile(binder.getFqcn(), typeElement);
+                    Writer writer = jfo.openWriter();
+                    writer.write(source.get());
+                    writer.flush();
+                    writer.close();
+                } catch (IOException e) {
+                    error(typeElement, "Unable to write binder for type %s: %s", typeElement, e.getMessage());
+                } catch (ExecutionException e) {
+                    error(typeElement, "Unable to write binder for type %s: %s", typeElement, e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    error(typeElement, "Interrupted while writing binder for type %s", typeElement);
+                    return;
+                }
+            }
+        } finally {
+            pool.shutdownNow();
         }
     }
 
-    private void parseDefaultFieldName(Element annotatedElement) {
-        if (isAccessibleAndStatic(PreferenceDefault.class, annotatedElement)) {
-            return;
-        }
+    private void findAndParseDefaultFields(RoundEnvironment env) {
+        for (Element annotatedElement : env.getElementsAnnotatedWith(PreferenceDefault.class)) {
+            if (isAccessibleAndStatic(PreferenceDefault.class, annotatedElement)) {
+                continue;
+            }
 
-        // Assemble information on the binding point.
-        TypeElement enclosingElement = (TypeElement) annotatedElement.getEnclosingElement();
-        final PreferenceDefault annotation = annotatedElement.getAnnotation(PreferenceDefault.class);
-        String preferenceKey = annotation.value();
-        String name = annotatedElement.getSimpleName().toString();
-        String type = annotatedElement.asType().toString();
-
-        // Check that the target is a field
-        if(!annotatedElement.getKind().isField()){
-            error(annotatedElement,
-                    "Only fields can be annotate with @PreferenceDefault (%s.%s)",
-                    enclosingElement.getQualifiedName(),
-                    name);
-            return;
-        }
+            final TypeElement enclosingElement = (TypeElement) annotatedElement.getEnclosingElement();
+            final String preferenceKey = annotatedElement.getAnnotation(PreferenceDefault.class).value();
+            final String name = annotatedElement.getSimpleName().toString();
 
-        BinderClassFactory.addDefault(preferenceKey, name, type, enclosingElement);
+            if(!annotatedElement.getKind().isField()){
+                error(annotatedElement,
+                        "Only fields can be annotate with @PreferenceDefault (%s.%s)",
+                        enclosingElement.getQualifiedName(),
+                        name);
+            } else if(defaultFields.containsKey(preferenceKey)) {
+                error(annotatedElement, "Default value set more than once for \"%s\" (%s.%s)",
+                        preferenceKey, enclosingElement.getQualifiedName(), name);
+            } else if(bindersWritten) {
+                // Binders from earlier rounds can't use it
+                error(annotatedElement, "@PreferenceDefault fields can not be declared in generated sources (%s.%s)",
+                        enclosingElement.getQualifiedName(), name);
+            } else {
+                defaultFields.put(preferenceKey, annotatedElement);
+            }
+        }
     }
 
     private void findAndParseBindPreferenceAnnotations(RoundEnvironment env){
@@ -176,9 +226,17 @@ public class PreferenceBinderProcessor extends AbstractProcessor {
 
         final boolean isField = annotatedElement.getKind().isField();
         final ElementType elementType = isField?ElementType.FIELD:ElementType.METHOD;
-        String type;
 
-        if(!annotation.init() && !annotation.listen()) {
+        if(annotation.coalesce() && (isField || !((ExecutableElement) annotatedElement).getParameters().isEmpty())) {
+            error(annotatedElement, "@BindPref \"coalesce\" can only be used on methods without parameters (%s.%s)", enclosingElement.getQualifiedName(), name);
+            return;
+        } else if(annotation.writePolicy() != WritePolicy.IMMEDIATE && annotation.bindTo().listenerCall == null) {
+            error(annotatedElement, "@BindPref \"writePolicy\" can only be used with widget bindings that save user changes (%s.%s)", enclosingElement.getQualifiedName(), name);
+            return;
+        } else if(annotation.writeDelay() < 0) {
+            error(annotatedElement, "@BindPref \"writeDelay\" must not be negative (%s.%s)", enclosingElement.getQualifiedName(), name);
+            return;
+        } else if(!annotation.init() && !annotation.listen()) {
             error(annotatedElement, "@BindPref binding has no effect (it should either initialize or listen)", enclosingElement.getQualifiedName(), name);
             return;
         } else if(preferenceKeys.length == 0) {
@@ -189,12 +247,6 @@ public class PreferenceBinderProcessor extends AbstractProcessor {
                 error(annotatedElement, "Multiple preference keys are only allowed for @BindPref method annotations (not fields)", enclosingElement.getQualifiedName(), name);
                 return;
             }
-
-            if(annotation.bindTo().prefType == null) {
-                type = annotatedElement.asType().toString();
-            } else {
-                type = annotation.bindTo().prefType.getFieldTypeDef();
-            }
         }else {
             // Assemble information on the binding point.
             ExecutableElement executableElement = (ExecutableElement) annotatedElement;
@@ -208,20 +260,28 @@ public class PreferenceBinderProcessor extends AbstractProcessor {
                     error(annotatedElement, "@BindPref method annotations with multiple preference keys can not have method parameters", enclosingElement.getQualifiedName(), name);
                     return;
                 }
-                type = null;
             }else if(params.size() != 1) {
                 error(annotatedElement,
                         "Methods annotated with @BindPref must have a single parameter. (%s.%s)",
                         enclosingElement.getQualifiedName(),
                         name);
                 return;
-            }else {
-                type = params.get(0).asType().toString();
+            }
+        }
+
+        final String type = TargetTypes.getValueType(annotatedElement, annotation);
+        for(String preferenceKey : preferenceKeys) {
+            final Element defaultField = defaultFields.get(preferenceKey);
+            if (type != null && defaultField != null && !defaultField.asType().toString().equals(type)) {
+                error(annotatedElement, "Default value type (%s) does not match binding type (%s) for \"%s\"",
+                        defaultField.asType(), type, preferenceKey);
+                return;
             }
         }
 
         BinderClassFactory binder = getOrCreateTargetClass(enclosingElement);
-        Binding binding = new Binding(name, type, elementType, annotation.bindTo());
+        Binding binding = new Binding(name, type, elementType, annotation.bindTo(), annotation.coalesce(),
+                annotation.writePolicy(), annotation.writeDelay(), annotation.skipUnchanged());
 
         for(String preferenceKey : preferenceKeys) {
             if(annotation.init()) {
@@ -230,19 +290,21 @@ public class PreferenceBinderProcessor extends AbstractProcessor {
             if (annotation.listen()) {
                 binder.addListenerBinding(preferenceKey, binding);
             }
-        }
 
-        // Add the type-erased version to the valid binding targets set.
-        targetClassNames.add(enclosingElement.toString());
+            final Element defaultField = defaultFields.get(preferenceKey);
+            if (defaultField != null) {
+                final TypeElement defaultEnclosingElement = (TypeElement) defaultField.getEnclosingElement();
+                binder.setDefault(preferenceKey, defaultEnclosingElement.getQualifiedName() + "." + defaultField.getSimpleName());
+            }
+        }
     }
 
     private BinderClassFactory getOrCreateTargetClass(TypeElement enclosingElement) {
         BinderClassFactory binder = targetClassMap.get(enclosingElement);
         if (binder == null) {
             String targetType = enclosingElement.getQualifiedName().toString();
-            String classPackage = getPackageName(enclosingElement);
-            String parentClassName = getClassName(enclosingElement, classPackage);
-            String className = parentClassName + SUFFIX;
+            String classPackage = TargetTypes.getPackageName(elementUtils, enclosingElement);
+            String className = TargetTypes.getClassName(enclosingElement, classPackage) + SUFFIX;
 
             binder = new BinderClassFactory(classPackage, className, targetType);
             targetClassMap.put(enclosingElement, binder);
@@ -250,11 +312,6 @@ public class PreferenceBinderProcessor extends AbstractProcessor {
         return binder;
     }
 
-    private static String getClassName(TypeElement type, String packageName) {
-        int packageLen = packageName.length() + 1;
-        return type.getQualifiedName().toString().substring(packageLen).replace('.', '$');
-    }
-
     private boolean bindPreferenceAnnotationHasError(Element element){
         return isInaccessibleViaGeneratedCode(BindPref.class, element)
                 || isBindingInWrongPackage(BindPref.class, element);
@@ -267,45 +324,22 @@ public class PreferenceBinderProcessor extends AbstractProcessor {
     }
 
     private void findAndSetParentBinder(Map.Entry<TypeElement, BinderClassFactory> entry) {
-        String parentClassClassName = findParentClassName(entry.getKey());
-        if (parentClassClassName != null) {
-            entry.getValue().setParentBinder(parentClassClassName + SUFFIX);
+        // Superclass bindings are found from the superclass itself (not from the other classes in this
+        // round), so that superclasses that are already compiled are found too
+        final TypeElement parentTarget = TargetTypes.findParentTarget(entry.getKey());
+        if (parentTarget != null) {
+            entry.getValue().setParentBinder(TargetTypes.getBinderClassName(elementUtils, parentTarget));
         }
     }
 
-    /** Finds the parent binder type in the supplied set, if any. */
-    private String findParentClassName(TypeElement typeElement) {
-        final TypeElement parentTypeElement = findParentClass(typeElement);
-        if(parentTypeElement == null) {
-            return null;
-        }
-
-        String packageName = getPackageName(parentTypeElement);
-        return packageName + "." + getClassName(parentTypeElement, packageName);
-    }
-
-    private TypeElement findParentClass(TypeElement typeElement) {
-        TypeMirror type;
-        while (true) {
-            type = typeElement.getSuperclass();
-            if (type.getKind() == TypeKind.NONE) {
-                return null;
-            }
-            typeElement = (TypeElement) ((DeclaredType) type).asElement();
-            if (targetClassNames.contains(typeElement.toString())) {
-                return typeElement;
-            }
-        }
-    }
-
-    private boolean isAccessibleAndStatic(Class<? extends Annotation> annotationClass, Element element){
+    private boolean isInaccessibleViaGeneratedCode(Class<? extends Annotation> annotationClass, Element element) {
         boolean hasError = false;
         TypeElement enclosingElement = (TypeElement) element.getEnclosingElement();
 
         // Verify method modifiers.
         Set<Modifier> modifiers = element.getModifiers();
-        if (!modifiers.contains(PUBLIC) || !modifiers.contains(STATIC)) {
-            error(element, "@%s annotated elements must have public and static modifiers. (%s.%s)",
+        if (modifiers.contains(PRIVATE) || modifiers.contains(STATIC)) {
+            error(element, "@%s annotated elements must not be private or static. (%s.%s)",
                     annotationClass.getSimpleName(), enclosingElement.getQualifiedName(),
                     element.getSimpleName());
             hasError = true;
@@ -330,14 +364,14 @@ public class PreferenceBinderProcessor extends AbstractProcessor {
         return hasError;
     }
 
-    private boolean isInaccessibleViaGeneratedCode(Class<? extends Annotation> annotationClass, Element element) {
+    private boolean isAccessibleAndStatic(Class<? extends Annotation> annotationClass, Element element){
         boolean hasError = false;
         TypeElement enclosingElement = (TypeElement) element.getEnclosingElement();
 
         // Verify method modifiers.
         Set<Modifier> modifiers = element.getModifiers();
-        if (modifiers.contains(PRIVATE) || modifiers.contains(STATIC)) {
-            error(element, "@%s annotated elements must not be private or static. (%s.%s)",
+        if (!modifiers.contains(PUBLIC) || !modifiers.contains(STATIC)) {
+            error(element, "@%s annotated elements must have public and static modifiers. (%s.%s)",
                     annotationClass.getSimpleName(), enclosingElement.getQualifiedName(),
                     element.getSimpleName());
             hasError = true;
@@ -392,8 +426,4 @@ public class PreferenceBinderProcessor extends AbstractProcessor {
         processingEnv.getMessager().printMessage(ERROR, message, element);
     }
 
-    private String getPackageName(TypeElement type) {
-        return elementUtils.getPackageOf(type).getQualifiedName().toString();
-    }
-
 }
@@ -0,0 +1,104 @@
+package me.denley.preferencebinder.internal;
+
+import java.util.List;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+
+import me.denley.preferencebinder.BindPref;
+
+import static me.denley.preferencebinder.internal.PreferenceBinderProcessor.ANDROID_PREFIX;
+import static me.denley.preferencebinder.internal.PreferenceBinderProcessor.JAVA_PREFIX;
+import static me.denley.preferencebinder.internal.PreferenceBinderProcessor.SUFFIX;
+
+/**
+ * Questions about target types that are answered from the types themselves (and their
+ * superclasses) only, never from the other types being processed. This keeps each generated
+ * binder dependent only on its own target type, as incremental compilation requires.
+ */
+final class TargetTypes {
+    private TargetTypes(){
+        throw new AssertionError("Instances are not allowed");
+    }
+
+    /** @return Whether the type declares any {@link BindPref} annotated fields or methods (and so has a generated binder). */
+    static boolean hasBindings(TypeElement type) {
+        for (Element element : type.getEnclosedElements()) {
+            if (element.getAnnotation(BindPref.class) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** @return The nearest superclass of the type that has a generated binder, or null if there is none. */
+    static TypeElement findParentTarget(TypeElement type) {
+        while ((type = getSuperclass(type)) != null) {
+            if (hasBindings(type)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    /** @return The type itself or its nearest superclass that has a generated binder, or null if there is none. */
+    static TypeElement findNearestTarget(TypeElement type) {
+        return hasBindings(type) ? type : findParentTarget(type);
+    }
+
+    private static TypeElement getSuperclass(TypeElement type) {
+        final TypeMirror superType = type.getSuperclass();
+        if (superType.getKind() == TypeKind.NONE) {
+            return null;
+        }
+
+        final TypeElement superElement = (TypeElement) ((DeclaredType) superType).asElement();
+        final String qualifiedName = superElement.getQualifiedName().toString();
+        if (qualifiedName.startsWith(ANDROID_PREFIX) || qualifiedName.startsWith(JAVA_PREFIX)) {
+            return null;
+        }
+        return superElement;
+    }
+
+    /** @return The fully qualified name of the binder generated for the given target type. */
+    static String getBinderClassName(Elements elementUtils, TypeElement type) {
+        final String packageName = getPackageName(elementUtils, type);
+        return packageName + "." + getClassName(type, packageName) + SUFFIX;
+    }
+
+    static String getPackageName(Elements elementUtils, TypeElement type) {
+        return elementUtils.getPackageOf(type).getQualifiedName().toString();
+    }
+
+    /** @return The type's name within its package, with nested type names separated by '$'. */
+    static String getClassName(TypeElement type, String packageName) {
+        int packageLen = packageName.length() + 1;
+        return type.getQualifiedName().toString().substring(packageLen).replace('.', '$');
+    }
+
+    /**
+     * @return The type of preference value bound by a field or method, or null for methods bound to
+     *         multiple keys (which take no value).
+     */
+    static String getValueType(Element annotatedElement, BindPref annotation) {
+        if (annotatedElement.getKind().isField()) {
+            if (annotation.bindTo().prefType == null) {
+                return annotatedElement.asType().toString();
+            }
+            return annotation.bindTo().prefType.getFieldTypeDef();
+        }
+
+        final List<? extends VariableElement> params = ((ExecutableElement) annotatedElement).getParameters();
+        if (annotation.value().length != 1 || params.size() != 1) {
+            return null;
+        }
+        return params.get(0).asType().toString();
+    }
+
+}
@@ -1,60 +0,0 @@
-/*
- * Copyright (c) 2005, 2006, Oracle and/or its affiliates. All rights reserved.
- * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
- *
- *
- *
- *
- *
- *
- *
- *
- *
- *
- *
- *
- *
- *
- *
- *
- *
- *
- *
- *
- */
-
-/**
- * Classes and hierarchies of packages used to model the Java
- * programming language.
- *
- * The members of this package and its subpackages are for use in
- * language modeling and language processing tasks and APIs including,
- * but not limited to, the {@linkplain javax.annotation.processing
- * annotation processing} framework.
- *
- * <p> This language model follows a <i>mirror</i>-based design; see
- *
- * <blockquote>
- * Gilad Bracha and David Ungar. <i>Mirrors: Design Principles for
- * Meta-level Facilities of Object-Oriented Programming Languages</i>.
- * In Proc. of the ACM Conf. on Object-Oriented Programming, Systems,
- * Languages and Applications, October 2004.
- * </blockquote>
- *
- * In particular, the model makes a distinction between static
- * language constructs, like the {@linkplain javax.lang.model.element
- * element} representing {@code java.util.Set}, and the family of
- * {@linkplain javax.lang.model.type types} that may be associated
- * with an element, like the raw type {@code java.util.Set}, {@code
- * java.util.Set<String>}, and {@code java.util.Set<T>}.
- *
- * <p> Unless otherwise specified, methods in this package will throw
- * a {@code NullPointerException} if given a {@code null} argument.
- *
- * @author Joseph D. Darcy
- * @author Scott Seligman
- * @author Peter von der Ah&eacute;
- * @since 1.6
- */
-
-package javax.lang.model;
@@ -0,0 +1,117 @@
+package me.denley.preferencebinder;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * DO NOT USE: Exposed for generated code.
+ *
+ * The targets currently bound by a generated binder. Targets are compared by identity (their own
+ * equals and hashCode methods are never called) and only weakly referenced. Entries for targets
+ * that have been garbage collected without being unbound are removed automatically.
+ */
+public final class BoundTargets<T> {
+
+    final ReferenceQueue<T> queue = new ReferenceQueue<T>();
+    private final ConcurrentMap<Object, TargetSubscriber<T>> subscribers = new ConcurrentHashMap<Object, TargetSubscriber<T>>();
+
+    // Reused by refresh, so that a refresh with no changes doesn't allocate
+    private static final ThreadLocal<TargetKey> REFRESH_KEYS = new ThreadLocal<TargetKey>() {
+        @Override protected TargetKey initialValue() {
+            return new TargetKey(null);
+        }
+    };
+
+    /** Starts listening for changes on behalf of the subscriber's target, replacing any previous binding of that target. */
+    public void add(TargetSubscriber<T> subscriber) {
+        expungeStaleEntries();
+
+        final TargetSubscriber<T> previous = subscribers.remove(subscriber);
+        if (previous != null) {
+            previous.unsubscribe();
+        }
+        subscribers.put(subscriber, subscriber);
+        subscriber.subscribe();
+    }
+
+    /** @return The subscriber currently bound to the given target, or null if it is not bound. */
+    public TargetSubscriber<T> get(T target) {
+        return subscribers.get(new TargetKey(target));
+    }
+
+    /** Stops listening for changes on behalf of the given target. */
+    public void remove(T target) {
+        expungeStaleEntries();
+
+        final TargetSubscriber<T> subscriber = subscribers.remove(new TargetKey(target));
+        if (subscriber != null) {
+            subscriber.unsubscribe();
+        }
+    }
+
+    /** Defers changes for the given target until it is resumed. Has no effect if the target is not bound. */
+    public void pause(T target) {
+        final TargetSubscriber<T> subscriber = get(target);
+        if (subscriber != null) {
+            subscriber.pause();
+        }
+    }
+
+    /** Applies the changes deferred while the given target was paused, and stops deferring changes. */
+    public void resume(T target) {
+        final TargetSubscriber<T> subscriber = get(target);
+        if (subscriber != null) {
+            subscriber.resume();
+        }
+    }
+
+    /** Applies the changes that the given target has pulled since it was last refreshed. */
+    public void refresh(T target) {
+        final TargetKey key = REFRESH_KEYS.get();
+        key.target = target;
+        final TargetSubscriber<T> subscriber = subscribers.get(key);
+        key.target = null;
+
+        if (subscriber != null) {
+            subscriber.refresh();
+        }
+    }
+
+    private void expungeStaleEntries() {
+        Reference<? extends T> reference;
+        while ((reference = queue.poll()) != null) {
+            final TargetSubscriber<?> subscriber = (TargetSubscriber<?>) reference;
+            subscribers.remove(subscriber);
+            subscriber.unsubscribe();
+        }
+    }
+
+    static Object targetOf(Object key) {
+        if (key instanceof TargetSubscriber) {
+            return ((TargetSubscriber<?>) key).get();
+        } else if (key instanceof TargetKey) {
+            return ((TargetKey) key).target;
+        }
+        return null;
+    }
+
+    /** A strongly referenced, identity based key, equal to the subscriber for the same target. */
+    static final class TargetKey {
+        Object target;
+
+        TargetKey(Object target) {
+            this.target = target;
+        }
+
+        @Override public int hashCode() {
+            return System.identityHashCode(target);
+        }
+
+        @Override public boolean equals(Object o) {
+            return this == o || target == targetOf(o);
+        }
+    }
+
+}
@@ -0,0 +1,166 @@
+package me.denley.preferencebinder;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import me.denley.preferencebinder.store.PreferenceStore;
+
+/**
+ * A view of a {@link PreferenceStore} that is shared by all of the subscribers notified of a
+ * single change. The changed key's value is read from the store once, by the first subscriber that
+ * asks for it, and the other subscribers are given the same value. Values are kept in typed fields,
+ * so primitive values aren't boxed. Other keys are read from the store directly.
+ *
+ * A subscriber may change the store while the change is being dispatched (e.g. by writing the same
+ * key again). The store's change count is therefore checked before a cached value is used, and the
+ * cache is cleared if the store has changed since the value was read.
+ *
+ * Only valid while the change is being dispatched, and not thread-safe.
+ */
+final class ChangedValueCache implements PreferenceStore {
+
+    private static final int PRESENCE = 1;
+    private static final int BOOLEAN = 1 << 1;
+    private static final int FLOAT = 1 << 2;
+    private static final int INT = 1 << 3;
+    private static final int LONG = 1 << 4;
+    private static final int STRING = 1 << 5;
+    private static final int STRING_SET = 1 << 6;
+
+    private final PreferenceStore store;
+    private final String key;
+    private final AtomicInteger storeChangeCount;
+
+    // The store's change count when the cached values were read
+    private int cachedChangeCount;
+    // Bit mask of the values that have been read from the store
+    private int loaded;
+    private boolean present;
+    private boolean booleanValue;
+    private float floatValue;
+    private int intValue;
+    private long longValue;
+    private String stringValue;
+    private Set<String> stringSetValue;
+
+    /** @param storeChangeCount Incremented whenever the store notifies its listeners of a change. */
+    ChangedValueCache(PreferenceStore store, String key, AtomicInteger storeChangeCount) {
+        this.store = store;
+        this.key = key;
+        this.storeChangeCount = storeChangeCount;
+        this.cachedChangeCount = storeChangeCount.get();
+    }
+
+    private boolean isLoaded(int type) {
+        return (loaded & type) != 0;
+    }
+
+    @Override public boolean contains(String key) {
+        if (!this.key.equals(key)) {
+            return store.contains(key);
+        }
+
+        // Every getter checks for presence first, so stale values are also discarded for them here
+        final int changeCount = storeChangeCount.get();
+        if (changeCount != cachedChangeCount) {
+            cachedChangeCount = changeCount;
+            loaded = 0;
+        }
+
+        if (!isLoaded(PRESENCE)) {
+            present = store.contains(key);
+            loaded |= PRESENCE;
+        }
+        return present;
+    }
+
+    // Values are only cached when present, as the default value given to the getter may differ between callers
+
+    @Override public boolean getBoolean(String key, boolean defaultValue) {
+        if (!this.key.equals(key) || !contains(key)) {
+            return store.getBoolean(key, defaultValue);
+        }
+        if (!isLoaded(BOOLEAN)) {
+            booleanValue = store.getBoolean(key, defaultValue);
+            loaded |= BOOLEAN;
+        }
+        return booleanValue;
+    }
+
+    @Override public float getFloat(String key, float defaultValue) {
+        if (!this.key.equals(key) || !contains(key)) {
+            return store.getFloat(key, defaultValue);
+        }
+        if (!isLoaded(FLOAT)) {
+            floatValue = store.getFloat(key, defaultValue);
+            loaded |= FLOAT;
+        }
+        return floatValue;
+    }
+
+    @Override public int getInt(String key, int defaultValue) {
+        if (!this.key.equals(key) || !contains(key)) {
+            return store.getInt(key, defaultValue);
+        }
+        if (!isLoaded(INT)) {
+            intValue = store.getInt(key, defaultValue);
+            loaded |= INT;
+        }
+        return intValue;
+    }
+
+    @Override public long getLong(String key, long defaultValue) {
+        if (!this.key.equals(key) || !contains(key)) {
+            return store.getLong(key, defaultValue);
+        }
+        if (!isLoaded(LONG)) {
+            longValue = store.getLong(key, defaultValue);
+            loaded |= LONG;
+        }
+        return longValue;
+    }
+
+    @Override public String getString(String key, String defaultValue) {
+        if (!this.key.equals(key) || !contains(key)) {
+            return store.getString(key, defaultValue);
+        }
+        if (!isLoaded(STRING)) {
+            stringValue = store.getString(key, defaultValue);
+            loaded |= STRING;
+        }
+        return stringValue;
+    }
+
+    @Override public Set<String> getStringSet(String key, Set<String> defaultValues) {
+        if (!this.key.equals(key) || !contains(key)) {
+            return store.getStringSet(key, defaultValues);
+        }
+        if (!isLoaded(STRING_SET)) {
+            stringSetValue = store.getStringSet(key, defaultValues);
+            loaded |= STRING_SET;
+        }
+        return stringSetValue;
+    }
+
+    @Override public Map<String, ?> getAll() {
+        return store.getAll();
+    }
+
+    @Override public Map<String, ?> getValues(String[] keys) {
+        return store.getValues(keys);
+    }
+
+    @Override public Editor edit() {
+        return store.edit();
+    }
+
+    @Override public void registerOnChangeListener(OnChangeListener listener) {
+        store.registerOnChangeListener(listener);
+    }
+
+    @Override public void unregisterOnChangeListener(OnChangeListener listener) {
+        store.unregisterOnChangeListener(listener);
+    }
+
+}
@@ -2,19 +2,29 @@ package me.denley.preferencebinder;
 
 import android.annotation.TargetApi;
 import android.app.Activity;
+import android.app.Application;
 import android.app.Dialog;
 import android.app.Fragment;
 import android.app.Service;
 import android.content.Context;
 import android.content.SharedPreferences;
 import android.os.Build;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.preference.PreferenceManager;
 import android.view.View;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
-import me.denley.preferencebinder.internal.PreferenceBinderProcessor;
+import me.denley.preferencebinder.store.PreferenceStore;
+import me.denley.preferencebinder.store.SharedPreferencesStore;
 
 public final class PreferenceBinder {
     private PreferenceBinder(){
@@ -23,17 +33,109 @@ public final class PreferenceBinder {
 
     /** DO NOT USE: Exposed for generated code. */
     public interface Binder<T> {
-        void bind(Context context, T target, SharedPreferences prefs);
+        void bind(T target, PreferenceStore prefs, PreferenceStore initialValues, boolean pullChanges);
         void unbind(T target);
+        void pause(T target);
+        void resume(T target);
+        void refresh(T target);
     }
 
-    static final Map<Class<?>, Binder<Object>> BINDERS = new LinkedHashMap<Class<?>, Binder<Object>>();
+    /** Callback for {@link #bindAsync(Context, Object, String, Executor, BindCallback)}. */
+    public interface BindCallback {
+        /** Called on the binding thread once the target has been bound. */
+        void onBound(Object target);
+    }
+
+    /** DO NOT USE: Exposed for generated code. */
+    public interface BinderIndex {
+        Binder<?> getBinder(String targetClassName);
+    }
+
+    // Must match the names used by the annotation processor (in the compiler artifact)
+    private static final String BINDER_SUFFIX = "$$SharedPreferenceBinder";
+    private static final String ANDROID_PREFIX = "android.";
+    private static final String JAVA_PREFIX = "java.";
+
+    // Reads are lock-free. Binders are only ever added (with putIfAbsent), so all threads share one binder per class.
+    static final ConcurrentMap<Class<?>, Binder<Object>> BINDERS = new ConcurrentHashMap<Class<?>, Binder<Object>>();
+    static final List<BinderIndex> INDEXES = new CopyOnWriteArrayList<BinderIndex>();
+    static final ConcurrentMap<Object, Runnable> PENDING_ASYNC_BINDS = new ConcurrentHashMap<Object, Runnable>();
+    private static ExecutorService asyncBindExecutor;
+    private static volatile Executor mainThreadExecutor;
+    private static volatile boolean batchUpdates;
     static final Binder<Object> NOP_BINDER = new Binder<Object>() {
-        @Override public void bind(Context context, Object target, SharedPreferences prefs) { }
+        @Override public void bind(Object target, PreferenceStore prefs, PreferenceStore initialValues, boolean pullChanges) { }
         @Override public void unbind(Object target) {}
+        @Override public void pause(Object target) {}
+        @Override public void resume(Object target) {}
+        @Override public void refresh(Object target) {}
     };
 
 
+    /**
+     * Register a binder index generated by the annotation processor.
+     *
+     * Binders found in a registered index are created directly, rather than being looked up by
+     * reflection. The index class is generated for each module that sets the
+     * "preferenceBinderIndex" annotation processor option.
+     *
+     * @param index The generated index to consult when looking up binders.
+     */
+    public static void addIndex(BinderIndex index) {
+        INDEXES.add(index);
+    }
+
+    /**
+     * Sets the executor on which work scheduled for the main thread (e.g. coalesced method calls)
+     * is run. By default, it is posted to the main {@link Looper}.
+     *
+     * This is intended for unit tests that run on a plain JVM, where there is no main Looper. For
+     * example, a test can supply an executor that queues tasks, and then run them when it chooses.
+     *
+     * @param executor The executor to use, or null to restore the default.
+     */
+    public static void setMainThreadExecutor(Executor executor) {
+        mainThreadExecutor = executor;
+    }
+
+    static Executor getMainThreadExecutor() {
+        final Executor executor = mainThreadExecutor;
+        return executor == null ? MainLooperExecutor.INSTANCE : executor;
+    }
+
+    /**
+     * Sets whether changes are applied to bound targets in batches.
+     *
+     * When enabled, changed keys are collected rather than applied straight away, and all of the
+     * pending changes are applied together on the next main loop iteration (see
+     * {@link #setMainThreadExecutor}). Values are read when they are applied, so a key that changes
+     * several times before then is only applied once, with its latest value. This suits stores
+     * that change many keys at once (e.g. when syncing remote configuration), which would otherwise
+     * update widgets once per key.
+     *
+     * Disabled by default, in which case each change is applied on the thread that notified it.
+     *
+     * @param enabled Whether to batch updates.
+     */
+    public static void setBatchUpdates(boolean enabled) {
+        batchUpdates = enabled;
+    }
+
+    static boolean isBatchingUpdates() {
+        return batchUpdates;
+    }
+
+    // Only creates its Handler once it is first used
+    private static final class MainLooperExecutor implements Executor {
+        static final Executor INSTANCE = new MainLooperExecutor();
+
+        private final Handler handler = new Handler(Looper.getMainLooper());
+
+        @Override public void execute(Runnable command) {
+            handler.post(command);
+        }
+    }
+
     /**
      * Bind annotated fields and methods in the specified {@link Activity}.
      *
@@ -164,12 +266,101 @@ public final class PreferenceBinder {
         bind(context, target, context.getSharedPreferences(prefsFileName, Context.MODE_PRIVATE));
     }
 
+    /**
+     * Bind annotated fields and methods in the specified {@link Activity}, without blocking the
+     * calling thread while the preferences file is loaded.
+     *
+     * @param target Target activity for field binding.
+     * @see #bindAsync(Context, Object, String, Executor, BindCallback)
+     */
+    public static void bindAsync(Activity target) {
+        bindAsync(target, target, null, getAsyncBindExecutor(), null);
+    }
+
+    /**
+     * Bind annotated fields and methods in the specified {@link Object}, without blocking the
+     * calling thread while the preferences file is loaded.
+     *
+     * @param context The Context to use to load {@link SharedPreferences} values.
+     * @param target Target for field binding.
+     * @see #bindAsync(Context, Object, String, Executor, BindCallback)
+     */
+    public static void bindAsync(Context context, Object target) {
+        bindAsync(context, target, null, getAsyncBindExecutor(), null);
+    }
+
+    /**
+     * Bind annotated fields and methods in the specified {@link Object}, without blocking the
+     * calling thread while the preferences file is loaded.
+     *
+     * The {@link SharedPreferences} file is loaded, and a snapshot of its values is taken, using
+     * the given executor. The values are then applied to the target on the calling thread (or the
+     * main thread, if the calling thread has no {@link Looper}). Changes made while the file is
+     * loading are not missed.
+     *
+     * If {@link #unbind(Object)} is called before binding completes, the target is not bound.
+     *
+     * @param context The Context to use to load {@link SharedPreferences} values.
+     * @param target Target for field binding.
+     * @param prefsFileName The name of the {@link android.content.SharedPreferences} file to use, or null to use the default file.
+     * @param executor The executor on which to load the {@link SharedPreferences} file.
+     * @param callback Optional callback to be notified once binding completes.
+     */
+    public static void bindAsync(final Context context, final Object target, final String prefsFileName,
+                                 Executor executor, final BindCallback callback) {
+        final Looper looper = Looper.myLooper();
+        final Handler handler = new Handler(looper == null ? Looper.getMainLooper() : looper);
+        final Object key = new BoundTargets.TargetKey(target);
+
+        final Runnable pendingBind = new Runnable() {
+            @Override public void run() {
+                final SharedPreferences prefs = prefsFileName == null
+                        ? PreferenceManager.getDefaultSharedPreferences(context)
+                        : context.getSharedPreferences(prefsFileName, Context.MODE_PRIVATE);
+                final PreferenceStore store = SharedPreferencesStore.wrap(prefs);
+
+                // Loading the file and copying its values both happen here, rather than on the binding thread
+                final PreferenceSnapshot snapshot = PreferenceSnapshot.track(store);
+
+                final Runnable pendingBind = this;
+                handler.post(new Runnable() {
+                    @Override public void run() {
+                        try {
+                            if (PENDING_ASYNC_BINDS.remove(key, pendingBind)) {
+                                bind(target, store, snapshot, false);
+                                if (callback != null) {
+                                    callback.onBound(target);
+                                }
+                            }
+                        } finally {
+                            snapshot.release();
+                        }
+                    }
+                });
+            }
+        };
+
+        PENDING_ASYNC_BINDS.put(key, pendingBind);
+        executor.execute(pendingBind);
+    }
+
+    private static synchronized Executor getAsyncBindExecutor() {
+        if (asyncBindExecutor == null) {
+            asyncBindExecutor = Executors.newSingleThreadExecutor();
+        }
+        return asyncBindExecutor;
+    }
+
     /**
      * Stops receiving preference value changes on the given target.
      *
      * @param target Target for field binding.
      */
     public static void unbind(Object target){
+        if (!PENDING_ASYNC_BINDS.isEmpty()) {
+            PENDING_ASYNC_BINDS.remove(new BoundTargets.TargetKey(target));
+        }
+
         Class<?> targetClass = target.getClass();
 
         Binder<Object> binder = BINDERS.get(targetClass);
@@ -178,6 +369,65 @@ public final class PreferenceBinder {
         }
     }
 
+    /**
+     * Stops applying preference value changes to the given target until it is resumed (e.g. while
+     * an Activity is stopped, or a Fragment is hidden). The keys that change in the meantime are
+     * remembered, but their values are not read.
+     *
+     * Has no effect if the target is not bound.
+     *
+     * @param target Bound target to pause.
+     */
+    public static void pause(Object target) {
+        final Binder<Object> binder = BINDERS.get(target.getClass());
+        if (binder != null) {
+            binder.pause(target);
+        }
+    }
+
+    /**
+     * Resumes applying preference value changes to a target paused with {@link #pause(Object)}.
+     * Each key that changed while the target was paused is applied once, with its latest value.
+     *
+     * @param target Paused target to resume.
+     */
+    public static void resume(Object target) {
+        final Binder<Object> binder = BINDERS.get(target.getClass());
+        if (binder != null) {
+            binder.resume(target);
+        }
+    }
+
+    /**
+     * Automatically pauses bound activities while they are stopped, and resumes them when they are
+     * started again. Activities that are not bound are unaffected. Fragments can be paused and
+     * resumed with {@link #pause(Object)} and {@link #resume(Object)} (e.g. in
+     * {@link Fragment#onHiddenChanged(boolean)}).
+     *
+     * @param application The application whose activities to pause while stopped.
+     */
+    @TargetApi(Build.VERSION_CODES.ICE_CREAM_SANDWICH)
+    public static void pauseStoppedActivities(Application application) {
+        application.registerActivityLifecycleCallbacks(new ActivityPauser());
+    }
+
+    @TargetApi(Build.VERSION_CODES.ICE_CREAM_SANDWICH)
+    private static final class ActivityPauser implements Application.ActivityLifecycleCallbacks {
+        @Override public void onActivityStarted(Activity activity) {
+            resume(activity);
+        }
+
+        @Override public void onActivityStopped(Activity activity) {
+            pause(activity);
+        }
+
+        @Override public void onActivityCreated(Activity activity, Bundle savedInstanceState) {}
+        @Override public void onActivityResumed(Activity activity) {}
+        @Override public void onActivityPaused(Activity activity) {}
+        @Override public void onActivitySaveInstanceState(Activity activity, Bundle outState) {}
+        @Override public void onActivityDestroyed(Activity activity) {}
+    }
+
     /**
      * Bind annotated fields and methods in the specified {@link Object}.
      *
@@ -189,12 +439,66 @@ public final class PreferenceBinder {
      * @param prefs The SharedPreferences object from which to load preference values.
      */
     public static void bind(Context context, Object target, SharedPreferences prefs) {
+        bind(target, SharedPreferencesStore.wrap(prefs));
+    }
+
+    /**
+     * Bind annotated fields and methods in the specified {@link Object} to the values in a
+     * {@link PreferenceStore} (which need not be backed by {@link SharedPreferences}).
+     *
+     * Binding to a store that has no Android dependencies (such as
+     * {@link me.denley.preferencebinder.store.InMemoryPreferenceStore}) doesn't call into the
+     * Android framework, unless the target has widget bindings.
+     *
+     * @param target Target for field binding.
+     * @param store The store from which to load preference values.
+     */
+    public static void bind(Object target, PreferenceStore store) {
+        bind(target, store, null, false);
+    }
+
+    /**
+     * Bind annotated fields and methods in the specified {@link Object}, without applying changes
+     * as they are notified. Instead, the changed keys are marked, and are applied when
+     * {@link #refresh(Object)} is called. This suits targets that are used from a thread of their own
+     * (e.g. a game loop or a render thread), which can refresh the target once per frame.
+     *
+     * Initial values are applied straight away, on the calling thread. Coalesced method calls are
+     * made at the end of {@link #refresh(Object)}, rather than on the main thread.
+     * {@link #pause(Object)} has no effect on these targets.
+     *
+     * @param target Target for field binding.
+     * @param store The store from which to load preference values.
+     */
+    public static void bindForRefresh(Object target, PreferenceStore store) {
+        bind(target, store, null, true);
+    }
+
+    /**
+     * Applies the changes to the keys bound in a target bound with
+     * {@link #bindForRefresh(Object, PreferenceStore)}, since it was bound or last refreshed. Each
+     * changed key is applied once, with its latest value.
+     *
+     * If nothing has changed, this returns straight away without allocating, so it can be called
+     * every frame.
+     *
+     * @param target Target to refresh.
+     */
+    public static void refresh(Object target) {
+        final Binder<Object> binder = BINDERS.get(target.getClass());
+        if (binder != null) {
+            binder.refresh(target);
+        }
+    }
+
+    /** @param initialValues The values to initialize the target with, or null to read them from the store. */
+    private static void bind(Object target, PreferenceStore store, PreferenceStore initialValues, boolean pullChanges) {
         Class<?> targetClass = target.getClass();
 
         try{
             Binder<Object> binder = findBinderForClass(targetClass);
             if (binder != null) {
-                binder.bind(context, target, prefs);
+                binder.bind(target, store, initialValues, pullChanges);
             }
         } catch (RuntimeException e) {
             throw e;
@@ -203,23 +507,43 @@ public final class PreferenceBinder {
         }
     }
 
-    private static Binder<Object> findBinderForClass(Class<?> cls) throws IllegalAccessException, InstantiationException {
+    static Binder<Object> findBinderForClass(Class<?> cls) throws IllegalAccessException, InstantiationException {
         Binder<Object> binder = BINDERS.get(cls);
         if (binder != null) {
             return binder;
         }
         String clsName = cls.getName();
-        if (clsName.startsWith(PreferenceBinderProcessor.ANDROID_PREFIX) || clsName.startsWith(PreferenceBinderProcessor.JAVA_PREFIX)) {
+        if (clsName.startsWith(ANDROID_PREFIX) || clsName.startsWith(JAVA_PREFIX)) {
             return NOP_BINDER;
         }
+        binder = findIndexedBinder(clsName);
+        if (binder != null) {
+            return cacheBinder(cls, binder);
+        }
         try {
-            Class<?> binderClass = Class.forName(clsName + PreferenceBinderProcessor.SUFFIX);
+            Class<?> binderClass = Class.forName(clsName + BINDER_SUFFIX);
             binder = (Binder<Object>) binderClass.newInstance();
         } catch (ClassNotFoundException e) {
             binder = findBinderForClass(cls.getSuperclass());
         }
-        BINDERS.put(cls, binder);
-        return binder;
+        return cacheBinder(cls, binder);
+    }
+
+    /** Caches the binder for the given class, unless another thread has already done so. */
+    private static Binder<Object> cacheBinder(Class<?> cls, Binder<Object> binder) {
+        final Binder<Object> existing = BINDERS.putIfAbsent(cls, binder);
+        return existing == null ? binder : existing;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Binder<Object> findIndexedBinder(String clsName) {
+        for (BinderIndex index : INDEXES) {
+            Binder<?> binder = index.getBinder(clsName);
+            if (binder != null) {
+                return (Binder<Object>) binder;
+            }
+        }
+        return null;
     }
 
 }
@@ -0,0 +1,216 @@
+package me.denley.preferencebinder;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import me.denley.preferencebinder.store.PreferenceStore;
+import me.denley.preferencebinder.store.PreferenceStore.OnChangeListener;
+
+/**
+ * DO NOT USE: Exposed for generated code.
+ *
+ * Registers a single {@link OnChangeListener} for each {@link PreferenceStore}, and routes each
+ * change only to the subscribers bound to the changed key. Subscribers are given a view of the
+ * store in which the changed value is shared between them (see {@link ChangedValueCache}).
+ *
+ * A multiplexer is only kept while subscribers are bound to its store, so that stores that are no
+ * longer used can be garbage collected.
+ *
+ * When updates are batched (see {@link PreferenceBinder#setBatchUpdates}), changed keys are
+ * collected instead, and routed together on the next main loop iteration.
+ */
+public final class PreferenceChangeMultiplexer implements OnChangeListener {
+
+    /** DO NOT USE: Exposed for generated code. */
+    public interface Subscriber {
+        void onPreferenceChanged(PreferenceStore prefs, String key);
+    }
+
+    // A multiplexer is unregistered and removed when its last subscriber is unsubscribed
+    static final ConcurrentMap<PreferenceStore, PreferenceChangeMultiplexer> MULTIPLEXERS
+            = new ConcurrentHashMap<PreferenceStore, PreferenceChangeMultiplexer>();
+
+    /**
+     * Starts routing changes to the given preference keys to the subscriber.
+     *
+     * @param prefs The store to listen to.
+     * @param keys The preference keys that the subscriber is interested in.
+     * @param subscriber The subscriber to notify of changes.
+     */
+    public static void subscribe(PreferenceStore prefs, String[] keys, Subscriber subscriber) {
+        while (true) {
+            final PreferenceChangeMultiplexer multiplexer = getOrCreateMultiplexer(prefs);
+            synchronized (multiplexer) {
+                // Retry if the last subscriber left (and the multiplexer was removed) in the meantime
+                if (!multiplexer.removed) {
+                    for (String key : keys) {
+                        multiplexer.addSubscriber(key, subscriber);
+                    }
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops routing changes to the given preference keys to the subscriber.
+     *
+     * @param prefs The store that the subscriber was subscribed to.
+     * @param keys The preference keys that the subscriber was subscribed to.
+     * @param subscriber The subscriber to remove.
+     */
+    public static void unsubscribe(PreferenceStore prefs, String[] keys, Subscriber subscriber) {
+        final PreferenceChangeMultiplexer multiplexer = MULTIPLEXERS.get(prefs);
+        if (multiplexer == null) {
+            return;
+        }
+
+        synchronized (multiplexer) {
+            for (String key : keys) {
+                multiplexer.removeSubscriber(key, subscriber);
+            }
+
+            // Don't keep the store (and this listener) reachable once nothing is bound to it
+            if (multiplexer.subscribersByKey.isEmpty() && !multiplexer.removed) {
+                multiplexer.removed = true;
+                MULTIPLEXERS.remove(prefs, multiplexer);
+                prefs.unregisterOnChangeListener(multiplexer);
+            }
+        }
+    }
+
+    private static PreferenceChangeMultiplexer getOrCreateMultiplexer(PreferenceStore prefs) {
+        PreferenceChangeMultiplexer multiplexer = MULTIPLEXERS.get(prefs);
+        if (multiplexer == null) {
+            final PreferenceChangeMultiplexer created = new PreferenceChangeMultiplexer(prefs);
+            // Registered before any other thread can subscribe to (or remove) the new multiplexer
+            synchronized (created) {
+                multiplexer = MULTIPLEXERS.putIfAbsent(prefs, created);
+                if (multiplexer == null) {
+                    multiplexer = created;
+                    prefs.registerOnChangeListener(created);
+                }
+            }
+        }
+        return multiplexer;
+    }
+
+
+    // Only modified (by replacing the array) while holding this multiplexer's lock, but read without
+    // it when dispatching. Keys with no subscribers are removed, so the arrays are never empty.
+    private final ConcurrentMap<String, Subscriber[]> subscribersByKey
+            = new ConcurrentHashMap<String, Subscriber[]>();
+    // Guarded by this
+    private boolean removed;
+
+    private final PreferenceStore prefs;
+    // Incremented for every change to the store, so that values cached while dispatching an earlier change can be discarded
+    private final AtomicInteger changeCount = new AtomicInteger();
+
+    // Keys changed since the last flush, in the order they first changed. Guarded by itself
+    private final Set<String> pendingKeys = new LinkedHashSet<String>();
+    private final Runnable flushRunner = new Runnable() {
+        @Override public void run() {
+            final String[] keys;
+            synchronized (pendingKeys) {
+                keys = pendingKeys.toArray(new String[pendingKeys.size()]);
+                pendingKeys.clear();
+            }
+            for (String key : keys) {
+                dispatch(key);
+            }
+        }
+    };
+
+    private PreferenceChangeMultiplexer(PreferenceStore prefs) {
+        this.prefs = prefs;
+    }
+
+    /**
+     * Subscribers are compared by identity, as a TargetSubscriber is equal to any other subscriber
+     * for the same target (e.g. those of the target's superclass binders).
+     */
+    private void addSubscriber(String key, Subscriber subscriber) {
+        final Subscriber[] subscribers = subscribersByKey.get(key);
+        if (subscribers == null) {
+            subscribersByKey.put(key, new Subscriber[]{subscriber});
+        } else if (indexOf(subscribers, subscriber) < 0) {
+            final Subscriber[] added = new Subscriber[subscribers.length + 1];
+            System.arraycopy(subscribers, 0, added, 0, subscribers.length);
+            added[subscribers.length] = subscriber;
+            subscribersByKey.put(key, added);
+        }
+    }
+
+    private void removeSubscriber(String key, Subscriber subscriber) {
+        final Subscriber[] subscribers = subscribersByKey.get(key);
+        final int index = subscribers == null ? -1 : indexOf(subscribers, subscriber);
+        if (index < 0) {
+            return;
+        }
+
+        if (subscribers.length == 1) {
+            subscribersByKey.remove(key);
+        } else {
+            final Subscriber[] removed = new Subscriber[subscribers.length - 1];
+            System.arraycopy(subscribers, 0, removed, 0, index);
+            System.arraycopy(subscribers, index + 1, removed, index, removed.length - index);
+            subscribersByKey.put(key, removed);
+        }
+    }
+
+    private static int indexOf(Subscriber[] subscribers, Subscriber subscriber) {
+        for (int i = 0; i < subscribers.length; i++) {
+            if (subscribers[i] == subscriber) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override public void onPreferenceChanged(PreferenceStore prefs, String key) {
+        changeCount.incrementAndGet();
+
+        // SharedPreferences reports a null key when the whole file is cleared (API 30+), which bindings don't handle
+        if (key == null) {
+            return;
+        }
+
+        if (PreferenceBinder.isBatchingUpdates()) {
+            schedule(key);
+        } else {
+            dispatch(key);
+        }
+    }
+
+    // Values are read when the batch is flushed, so only the latest value of each key is applied
+    private void schedule(String key) {
+        if (!subscribersByKey.containsKey(key)) {
+            return;
+        }
+
+        final boolean first;
+        synchronized (pendingKeys) {
+            first = pendingKeys.isEmpty();
+            pendingKeys.add(key);
+        }
+        if (first) {
+            PreferenceBinder.getMainThreadExecutor().execute(flushRunner);
+        }
+    }
+
+    private void dispatch(String key) {
+        final Subscriber[] subscribers = subscribersByKey.get(key);
+        if (subscribers != null) {
+            // The changed value is read once, however many targets are bound to it
+            final PreferenceStore changedPrefs = new ChangedValueCache(prefs, key, changeCount);
+            for (Subscriber subscriber : subscribers) {
+                subscriber.onPreferenceChanged(changedPrefs, key);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,163 @@
+package me.denley.preferencebinder;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import me.denley.preferencebinder.store.PreferenceStore;
+
+/**
+ * DO NOT USE: Exposed for generated code.
+ *
+ * A read-only copy of the values of some keys in a {@link PreferenceStore}, taken with a single
+ * {@link PreferenceStore#getValues} call. Binders for targets with many keys read their initial
+ * values from a snapshot, rather than querying the store twice for every key. Binders for targets
+ * with few keys read from the store directly, as some stores (e.g. SharedPreferences) can only
+ * take a snapshot by copying every value.
+ *
+ * {@link PreferenceBinder#bindAsync} takes a tracked snapshot of the whole store in the background
+ * instead, and binds from it later. Keys that change in between are read from the store.
+ *
+ * Edits and listeners are passed on to the store.
+ */
+public final class PreferenceSnapshot implements PreferenceStore {
+
+    private final PreferenceStore store;
+    private final Map<String, ?> values;
+    // Keys that have changed since the snapshot was taken, or null if changes aren't tracked
+    private final Set<String> changedKeys;
+    private final OnChangeListener changeTracker;
+
+    private PreferenceSnapshot(PreferenceStore store, Map<String, ?> values) {
+        this.store = store;
+        this.values = values;
+        this.changedKeys = null;
+        this.changeTracker = null;
+    }
+
+    // Starts tracking changes before the values are read, so that none are missed in between
+    private PreferenceSnapshot(PreferenceStore store) {
+        this.store = store;
+        this.changedKeys = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+        this.changeTracker = new OnChangeListener() {
+            @Override public void onPreferenceChanged(PreferenceStore store, String key) {
+                if (key != null) {
+                    changedKeys.add(key);
+                }
+            }
+        };
+        store.registerOnChangeListener(changeTracker);
+        this.values = store.getAll();
+    }
+
+    /** @return A snapshot of the current values of the given keys. */
+    public static PreferenceStore of(PreferenceStore store, String[] keys) {
+        return new PreferenceSnapshot(store, store.getValues(keys));
+    }
+
+    /**
+     * @return A snapshot of all values in the given store, which reads any keys that change after
+     * it is taken from the store instead. Must be released once it is no longer used.
+     */
+    static PreferenceSnapshot track(PreferenceStore store) {
+        return new PreferenceSnapshot(store);
+    }
+
+    /** Stops tracking changes. Keys that changed before this is called are still read from the store. */
+    void release() {
+        if (changeTracker != null) {
+            store.unregisterOnChangeListener(changeTracker);
+        }
+    }
+
+    private boolean isChanged(String key) {
+        return changedKeys != null && changedKeys.contains(key);
+    }
+
+    @Override public boolean contains(String key) {
+        return isChanged(key) ? store.contains(key) : values.containsKey(key);
+    }
+
+    @Override public boolean getBoolean(String key, boolean defaultValue) {
+        if (isChanged(key)) {
+            return store.getBoolean(key, defaultValue);
+        }
+        final Object value = values.get(key);
+        return value == null ? defaultValue : (Boolean) value;
+    }
+
+    @Override public float getFloat(String key, float defaultValue) {
+        if (isChanged(key)) {
+            return store.getFloat(key, defaultValue);
+        }
+        final Object value = values.get(key);
+        return value == null ? defaultValue : (Float) value;
+    }
+
+    @Override public int getInt(String key, int defaultValue) {
+        if (isChanged(key)) {
+            return store.getInt(key, defaultValue);
+        }
+        final Object value = values.get(key);
+        return value == null ? defaultValue : (Integer) value;
+    }
+
+    @Override public long getLong(String key, long defaultValue) {
+        if (isChanged(key)) {
+            return store.getLong(key, defaultValue);
+        }
+        final Object value = values.get(key);
+        return value == null ? defaultValue : (Long) value;
+    }
+
+    @Override public String getString(String key, String defaultValue) {
+        if (isChanged(key)) {
+            return store.getString(key, defaultValue);
+        }
+        final Object value = values.get(key);
+        return value == null ? defaultValue : (String) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override public Set<String> getStringSet(String key, Set<String> defaultValues) {
+        if (isChanged(key)) {
+            return store.getStringSet(key, defaultValues);
+        }
+        final Object value = values.get(key);
+        return value == null ? defaultValues : (Set<String>) value;
+    }
+
+    @Override public Map<String, ?> getAll() {
+        return changedKeys == null || changedKeys.isEmpty() ? values : store.getAll();
+    }
+
+    @Override public Map<String, ?> getValues(String[] keys) {
+        if (changedKeys != null && !changedKeys.isEmpty()) {
+            return store.getValues(keys);
+        }
+
+        final Map<String, Object> result = new HashMap<String, Object>(keys.length * 2);
+        for (String key : keys) {
+            final Object value = values.get(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    @Override public Editor edit() {
+        return store.edit();
+    }
+
+    @Override public void registerOnChangeListener(OnChangeListener listener) {
+        store.registerOnChangeListener(listener);
+    }
+
+    @Override public void unregisterOnChangeListener(OnChangeListener listener) {
+        store.unregisterOnChangeListener(listener);
+    }
+
+}
@@ -0,0 +1,232 @@
+package me.denley.preferencebinder;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import me.denley.preferencebinder.PreferenceChangeMultiplexer.Subscriber;
+import me.denley.preferencebinder.store.PreferenceStore;
+
+/**
+ * DO NOT USE: Exposed for generated code.
+ *
+ * The binding state of a single target. The target is only weakly referenced, so that targets
+ * which are never unbound can still be garbage collected.
+ *
+ * Targets bound with {@link PreferenceBinder#bindForRefresh} pull changes instead. Changed keys are
+ * only marked in a bit set (by the index of the key in the subscriber's keys), and are applied by
+ * {@link #refresh()}.
+ */
+public abstract class TargetSubscriber<T> extends WeakReference<T> implements Subscriber {
+
+    private final int targetHash;
+    private final PreferenceStore prefs;
+    private final String[] keys;
+
+    private volatile boolean subscribed;
+    private volatile boolean paused;
+    // Keys changed while paused, in the order they first changed. Guarded by itself
+    private final Set<String> dirtyKeys = new LinkedHashSet<String>();
+
+    // Only used when pulling changes. The flag is set after the bits, so that refresh() never misses a changed key
+    private final AtomicLongArray refreshBits;
+    private volatile boolean needsRefresh;
+
+    // Writers for the target's two-way widget bindings, which are flushed when it is unbound. Guarded by this
+    private List<WidgetValueWriter> widgetValueWriters;
+
+    private final AtomicInteger pendingCallbacks = new AtomicInteger();
+    private final Runnable coalescedCallbackRunner = new Runnable() {
+        @Override public void run() {
+            final int callbacks = pendingCallbacks.getAndSet(0);
+            final T target = get();
+            if (subscribed && target != null) {
+                onCoalescedCallbacks(target, callbacks);
+            }
+        }
+    };
+
+    protected TargetSubscriber(BoundTargets<T> owner, T target, PreferenceStore prefs, String[] keys, boolean pullChanges) {
+        super(target, owner.queue);
+        this.targetHash = System.identityHashCode(target);
+        this.prefs = prefs;
+        this.keys = keys;
+        this.refreshBits = pullChanges ? new AtomicLongArray((keys.length + 63) / 64) : null;
+    }
+
+    /** Called when the value for one of this subscriber's keys changes, while the target is still reachable. */
+    protected abstract void onPreferenceChanged(T target, PreferenceStore prefs, String key);
+
+    /**
+     * Called on the main thread (see {@link PreferenceBinder#setMainThreadExecutor}) with the
+     * coalesced method calls that were posted since the previous main loop iteration.
+     *
+     * @param callbacks A bit mask of the posted calls.
+     */
+    protected void onCoalescedCallbacks(T target, int callbacks) {}
+
+    /** @return The index of the given key in this subscriber's keys, or -1 if it isn't one of them. */
+    protected abstract int keyIndex(String key);
+
+    /**
+     * Keeps the writer of one of the target's two-way widget bindings, so that its pending value is
+     * flushed when the target is unbound (see {@link WidgetValueWriter#flush()}).
+     *
+     * @return The given writer.
+     */
+    public final synchronized WidgetValueWriter addWidgetValueWriter(WidgetValueWriter writer) {
+        if (widgetValueWriters == null) {
+            widgetValueWriters = new ArrayList<WidgetValueWriter>(1);
+        }
+        widgetValueWriters.add(writer);
+        return writer;
+    }
+
+    /**
+     * Schedules coalesced method calls for the next main loop iteration, so that they occur once
+     * after all changes in the current iteration have been applied.
+     *
+     * @param callbacks A bit mask of the calls to make.
+     */
+    public final void postCoalescedCallbacks(int callbacks) {
+        int pending;
+        do {
+            pending = pendingCallbacks.get();
+        } while (!pendingCallbacks.compareAndSet(pending, pending | callbacks));
+
+        // When pulling changes, the calls are made at the end of refresh() instead
+        if (pending == 0 && refreshBits == null) {
+            PreferenceBinder.getMainThreadExecutor().execute(coalescedCallbackRunner);
+        }
+    }
+
+    @Override public final void onPreferenceChanged(PreferenceStore prefs, String key) {
+        final T target = get();
+        if (target == null) {
+            unsubscribe();
+        } else if (refreshBits != null) {
+            markForRefresh(key);
+        } else if (!paused || !markDirty(key)) {
+            onPreferenceChanged(target, prefs, key);
+        }
+    }
+
+    private boolean markDirty(String key) {
+        synchronized (dirtyKeys) {
+            if (paused) {
+                dirtyKeys.add(key);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void markForRefresh(String key) {
+        final int index = keyIndex(key);
+        if (index < 0) {
+            return;
+        }
+
+        final int word = index >>> 6;
+        final long bit = 1L << index;
+        long bits;
+        do {
+            bits = refreshBits.get(word);
+        } while ((bits & bit) == 0 && !refreshBits.compareAndSet(word, bits, bits | bit));
+        needsRefresh = true;
+    }
+
+    /**
+     * Applies the keys that changed since the previous refresh, once each, with their latest
+     * values. Returns straight away, without allocating, if nothing has changed.
+     */
+    void refresh() {
+        if (!needsRefresh) {
+            return;
+        }
+        needsRefresh = false;
+
+        final T target = get();
+        if (!subscribed || target == null) {
+            return;
+        }
+        for (int word = 0; word < refreshBits.length(); word++) {
+            long bits = refreshBits.getAndSet(word, 0);
+            while (bits != 0) {
+                final int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                onPreferenceChanged(target, prefs, keys[index]);
+            }
+        }
+
+        final int callbacks = pendingCallbacks.getAndSet(0);
+        if (callbacks != 0) {
+            onCoalescedCallbacks(target, callbacks);
+        }
+    }
+
+    void pause() {
+        paused = true;
+    }
+
+    /**
+     * Applies each key that changed while paused once. Values are read from the store now, so
+     * only the latest value of each key is applied.
+     */
+    void resume() {
+        final String[] keys;
+        synchronized (dirtyKeys) {
+            paused = false;
+            keys = dirtyKeys.toArray(new String[dirtyKeys.size()]);
+            dirtyKeys.clear();
+        }
+
+        final T target = get();
+        if (subscribed && target != null) {
+            for (String key : keys) {
+                onPreferenceChanged(target, prefs, key);
+            }
+        }
+    }
+
+    void subscribe() {
+        subscribed = true;
+        PreferenceChangeMultiplexer.subscribe(prefs, keys, this);
+    }
+
+    void unsubscribe() {
+        subscribed = false;
+        PreferenceChangeMultiplexer.unsubscribe(prefs, keys, this);
+        flushWidgetValueWriters();
+    }
+
+    private void flushWidgetValueWriters() {
+        final List<WidgetValueWriter> writers;
+        synchronized (this) {
+            writers = widgetValueWriters;
+            widgetValueWriters = null;
+        }
+        if (writers != null) {
+            for (WidgetValueWriter writer : writers) {
+                writer.flush();
+            }
+        }
+    }
+
+    @Override public int hashCode() {
+        return targetHash;
+    }
+
+    @Override public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        final Object target = get();
+        return target != null && target == BoundTargets.targetOf(o);
+    }
+
+}
@@ -0,0 +1,186 @@
+package me.denley.preferencebinder;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.widget.CompoundButton;
+
+import me.denley.preferencebinder.internal.WritePolicy;
+import me.denley.preferencebinder.store.PreferenceStore;
+
+/**
+ * DO NOT USE: Exposed for generated code.
+ *
+ * Writes values from a two-way widget binding back to its store, according to its {@link WritePolicy}.
+ * Must only be used on the main thread, except for {@link #flush()}.
+ */
+public final class WidgetValueWriter {
+
+    /** Schedules delayed writes on the main thread. */
+    interface Scheduler {
+        long uptimeMillis();
+        void postAtTime(Runnable task, long uptimeMillis);
+        void removeCallbacks(Runnable task);
+    }
+
+    private static volatile Scheduler scheduler;
+
+    // Set while a binder is applying a value to a widget, whose listener must not write it back
+    private static boolean applyingValue;
+
+    private final PreferenceStore prefs;
+    private final String key;
+    private final WritePolicy policy;
+    private final long writeDelay;
+
+    private boolean tracking;
+    private boolean hasPendingValue;
+    private boolean pendingBoolean;
+    private int pendingInt;
+    private boolean isBooleanValue;
+    private boolean isWriteScheduled;
+    private long lastWriteTime;
+
+    private final Runnable pendingWrite = new Runnable() {
+        @Override public void run() {
+            isWriteScheduled = false;
+            writePendingValue();
+        }
+    };
+
+    public WidgetValueWriter(PreferenceStore prefs, String key, WritePolicy policy, long writeDelay) {
+        this.prefs = prefs;
+        this.key = key;
+        this.policy = policy;
+        this.writeDelay = writeDelay;
+    }
+
+    /**
+     * Replaces the main thread's Handler and clock, for unit tests that run on a plain JVM.
+     *
+     * @param newScheduler The scheduler to use, or null to restore the default.
+     */
+    static void setScheduler(Scheduler newScheduler) {
+        scheduler = newScheduler;
+    }
+
+    private static Scheduler getScheduler() {
+        final Scheduler current = scheduler;
+        return current == null ? MainHandlerScheduler.INSTANCE : current;
+    }
+
+    /**
+     * Checks or unchecks the given button without writing the new state back to its store.
+     * A CHECKED listener can't tell a binder's change from the user's.
+     */
+    public static void setChecked(CompoundButton button, boolean checked) {
+        final boolean wasApplyingValue = applyingValue;
+        applyingValue = true;
+        try {
+            button.setChecked(checked);
+        } finally {
+            applyingValue = wasApplyingValue;
+        }
+    }
+
+    public void putBoolean(boolean value) {
+        if (applyingValue) {
+            return;
+        }
+        isBooleanValue = true;
+        pendingBoolean = value;
+        onValueChanged();
+    }
+
+    public void putInt(int value) {
+        isBooleanValue = false;
+        pendingInt = value;
+        onValueChanged();
+    }
+
+    public void onStartTrackingTouch() {
+        tracking = true;
+    }
+
+    public void onStopTrackingTouch() {
+        tracking = false;
+        if (policy == WritePolicy.ON_RELEASE) {
+            writePendingValue();
+        }
+    }
+
+    /**
+     * Called when the widget's target is unbound, on any thread. A value that is waiting for its
+     * write policy (a delay, or the user releasing a SeekBar) is written on the next main loop
+     * iteration instead, so that the user's last change is kept, but nothing is written long after
+     * the binding has gone.
+     */
+    public void flush() {
+        final Scheduler scheduler = getScheduler();
+        scheduler.removeCallbacks(pendingWrite);
+        scheduler.postAtTime(pendingWrite, 0);
+    }
+
+    private void onValueChanged() {
+        hasPendingValue = true;
+
+        switch (policy) {
+            case ON_RELEASE:
+                if (!tracking) {
+                    writePendingValue();
+                }
+                break;
+            case THROTTLE:
+                final long nextWriteTime = lastWriteTime + writeDelay;
+                if (getScheduler().uptimeMillis() >= nextWriteTime) {
+                    writePendingValue();
+                } else if (!isWriteScheduled) {
+                    isWriteScheduled = true;
+                    getScheduler().postAtTime(pendingWrite, nextWriteTime);
+                }
+                break;
+            case DEBOUNCE:
+                final Scheduler scheduler = getScheduler();
+                scheduler.removeCallbacks(pendingWrite);
+                isWriteScheduled = true;
+                scheduler.postAtTime(pendingWrite, scheduler.uptimeMillis() + writeDelay);
+                break;
+            default:
+                writePendingValue();
+        }
+    }
+
+    private void writePendingValue() {
+        if (!hasPendingValue) {
+            return;
+        }
+
+        hasPendingValue = false;
+        lastWriteTime = getScheduler().uptimeMillis();
+        if (isBooleanValue) {
+            prefs.edit().putBoolean(key, pendingBoolean).apply();
+        } else {
+            prefs.edit().putInt(key, pendingInt).apply();
+        }
+    }
+
+    // Only creates its Handler once it is first used
+    private static final class MainHandlerScheduler implements Scheduler {
+        static final Scheduler INSTANCE = new MainHandlerScheduler();
+
+        private final Handler handler = new Handler(Looper.getMainLooper());
+
+        @Override public long uptimeMillis() {
+            return SystemClock.uptimeMillis();
+        }
+
+        @Override public void postAtTime(Runnable task, long uptimeMillis) {
+            handler.postAtTime(task, uptimeMillis);
+        }
+
+        @Override public void removeCallbacks(Runnable task) {
+            handler.removeCallbacks(task);
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+package me.denley.preferencebinder.store;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Typed reads and listener management for stores that keep boxed values. Subclasses guard their
+ * values with their own lock.
+ */
+abstract class BasePreferenceStore implements PreferenceStore {
+
+    private final List<OnChangeListener> listeners = new CopyOnWriteArrayList<OnChangeListener>();
+
+    /** @return The boxed value for the given key, or null if there is none. */
+    abstract Object get(String key);
+
+    @Override public boolean getBoolean(String key, boolean defaultValue) {
+        final Object value = get(key);
+        return value == null ? defaultValue : (Boolean) value;
+    }
+
+    @Override public float getFloat(String key, float defaultValue) {
+        final Object value = get(key);
+        return value == null ? defaultValue : (Float) value;
+    }
+
+    @Override public int getInt(String key, int defaultValue) {
+        final Object value = get(key);
+        return value == null ? defaultValue : (Integer) value;
+    }
+
+    @Override public long getLong(String key, long defaultValue) {
+        final Object value = get(key);
+        return value == null ? defaultValue : (Long) value;
+    }
+
+    @Override public String getString(String key, String defaultValue) {
+        final Object value = get(key);
+        return value == null ? defaultValue : (String) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override public Set<String> getStringSet(String key, Set<String> defaultValues) {
+        final Object value = get(key);
+        return value == null ? defaultValues : (Set<String>) value;
+    }
+
+    @Override public Map<String, ?> getValues(String[] keys) {
+        final Map<String, Object> values = new HashMap<String, Object>(keys.length * 2);
+        synchronized (this) {
+            for (String key : keys) {
+                final Object value = get(key);
+                if (value != null) {
+                    values.put(key, value);
+                }
+            }
+        }
+        return values;
+    }
+
+    @Override public void registerOnChangeListener(OnChangeListener listener) {
+        if (!listeners.contains(listener)) {
+            listeners.add(listener);
+        }
+    }
+
+    @Override public void unregisterOnChangeListener(OnChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    /** Notifies listeners, in the order they were registered, of each changed key in order. */
+    void notifyListeners(List<String> changedKeys) {
+        for (String key : changedKeys) {
+            for (OnChangeListener listener : listeners) {
+                listener.onPreferenceChanged(this, key);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+package me.denley.preferencebinder.store;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/** An editor that collects changes, so that its store can apply them in a single batch. */
+abstract class BatchEditor implements PreferenceStore.Editor {
+
+    /** The value recorded in the batch for removed keys. */
+    static final Object REMOVED = new Object();
+
+    final Map<String, Object> changes = new LinkedHashMap<String, Object>();
+
+    @Override public PreferenceStore.Editor putBoolean(String key, boolean value) {
+        changes.put(key, value);
+        return this;
+    }
+
+    @Override public PreferenceStore.Editor putFloat(String key, float value) {
+        changes.put(key, value);
+        return this;
+    }
+
+    @Override public PreferenceStore.Editor putInt(String key, int value) {
+        changes.put(key, value);
+        return this;
+    }
+
+    @Override public PreferenceStore.Editor putLong(String key, long value) {
+        changes.put(key, value);
+        return this;
+    }
+
+    @Override public PreferenceStore.Editor putString(String key, String value) {
+        changes.put(key, value == null ? REMOVED : value);
+        return this;
+    }
+
+    @Override public PreferenceStore.Editor putStringSet(String key, Set<String> values) {
+        changes.put(key, values == null ? REMOVED : Collections.unmodifiableSet(new HashSet<String>(values)));
+        return this;
+    }
+
+    @Override public PreferenceStore.Editor remove(String key) {
+        changes.put(key, REMOVED);
+        return this;
+    }
+
+}
@@ -0,0 +1,189 @@
+package me.denley.preferencebinder.store;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The binary encoding of keys and values used by file based stores.
+ *
+ * Each value is written as a type byte followed by its content. Primitives have a fixed width
+ * (booleans use one byte). Strings are written as a length prefixed UTF-8 byte array, and string
+ * sets as a count followed by each string.
+ */
+final class BinaryValues {
+    private BinaryValues(){
+        throw new AssertionError("Instances are not allowed");
+    }
+
+    static final byte TYPE_BOOLEAN = 1;
+    static final byte TYPE_FLOAT = 2;
+    static final byte TYPE_INT = 3;
+    static final byte TYPE_LONG = 4;
+    static final byte TYPE_STRING = 5;
+    static final byte TYPE_STRING_SET = 6;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    static byte typeOf(Object value) {
+        if (value instanceof Boolean) {
+            return TYPE_BOOLEAN;
+        } else if (value instanceof Float) {
+            return TYPE_FLOAT;
+        } else if (value instanceof Integer) {
+            return TYPE_INT;
+        } else if (value instanceof Long) {
+            return TYPE_LONG;
+        } else if (value instanceof String) {
+            return TYPE_STRING;
+        } else if (value instanceof Set) {
+            return TYPE_STRING_SET;
+        }
+        throw new IllegalArgumentException("Unsupported preference value type: " + value.getClass());
+    }
+
+    static boolean isFixedWidth(byte type) {
+        return type != TYPE_STRING && type != TYPE_STRING_SET;
+    }
+
+    static void writeString(DataOutput out, String string) throws IOException {
+        final byte[] bytes = string.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    @SuppressWarnings("unchecked")
+    static void writeValue(DataOutput out, Object value) throws IOException {
+        final byte type = typeOf(value);
+        out.writeByte(type);
+
+        switch (type) {
+            case TYPE_BOOLEAN:
+                out.writeByte((Boolean) value ? 1 : 0);
+                break;
+            case TYPE_FLOAT:
+                out.writeFloat((Float) value);
+                break;
+            case TYPE_INT:
+                out.writeInt((Integer) value);
+                break;
+            case TYPE_LONG:
+                out.writeLong((Long) value);
+                break;
+            case TYPE_STRING:
+                writeString(out, (String) value);
+                break;
+            default:
+                final Set<String> strings = (Set<String>) value;
+                out.writeInt(strings.size());
+                for (String string : strings) {
+                    writeString(out, string);
+                }
+        }
+    }
+
+    static String readString(ByteBuffer buffer) {
+        final byte[] bytes = new byte[readLength(buffer)];
+        buffer.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    private static void skipString(ByteBuffer buffer) {
+        final int length = readLength(buffer);
+        buffer.position(buffer.position() + length);
+    }
+
+    private static int readLength(ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid string length: " + length);
+        }
+        return length;
+    }
+
+    private static int readCount(ByteBuffer buffer) {
+        final int count = buffer.getInt();
+        // Each string needs at least its length prefix
+        if (count < 0 || count > buffer.remaining() / 4) {
+            throw new IllegalArgumentException("Invalid string set size: " + count);
+        }
+        return count;
+    }
+
+    /** Reads a value (without its type byte), starting at the buffer's current position. */
+    static Object readValue(ByteBuffer buffer, byte type) {
+        switch (type) {
+            case TYPE_BOOLEAN:
+                return buffer.get() != 0;
+            case TYPE_FLOAT:
+                return buffer.getFloat();
+            case TYPE_INT:
+                return buffer.getInt();
+            case TYPE_LONG:
+                return buffer.getLong();
+            case TYPE_STRING:
+                return readString(buffer);
+            case TYPE_STRING_SET:
+                final int size = readCount(buffer);
+                final Set<String> strings = new HashSet<String>(size * 2);
+                for (int i = 0; i < size; i++) {
+                    strings.add(readString(buffer));
+                }
+                return Collections.unmodifiableSet(strings);
+            default:
+                throw new IllegalArgumentException("Unknown preference value type: " + type);
+        }
+    }
+
+    /** Skips a value (without its type byte), starting at the buffer's current position. */
+    static void skipValue(ByteBuffer buffer, byte type) {
+        switch (type) {
+            case TYPE_BOOLEAN:
+                buffer.position(buffer.position() + 1);
+                break;
+            case TYPE_FLOAT:
+            case TYPE_INT:
+                buffer.position(buffer.position() + 4);
+                break;
+            case TYPE_LONG:
+                buffer.position(buffer.position() + 8);
+                break;
+            case TYPE_STRING:
+                skipString(buffer);
+                break;
+            case TYPE_STRING_SET:
+                final int size = readCount(buffer);
+                for (int i = 0; i < size; i++) {
+                    skipString(buffer);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown preference value type: " + type);
+        }
+    }
+
+    /** Overwrites a fixed width value (without its type byte) at the given buffer index. */
+    static void putFixedWidthValue(ByteBuffer buffer, int index, Object value) {
+        switch (typeOf(value)) {
+            case TYPE_BOOLEAN:
+                buffer.put(index, (byte) ((Boolean) value ? 1 : 0));
+                break;
+            case TYPE_FLOAT:
+                buffer.putFloat(index, (Float) value);
+                break;
+            case TYPE_INT:
+                buffer.putInt(index, (Integer) value);
+                break;
+            case TYPE_LONG:
+                buffer.putLong(index, (Long) value);
+                break;
+            default:
+                throw new IllegalArgumentException("Not a fixed width value: " + value);
+        }
+    }
+
+}
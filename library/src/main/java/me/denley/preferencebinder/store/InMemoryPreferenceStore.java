@@ -0,0 +1,77 @@
+package me.denley.preferencebinder.store;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link PreferenceStore} that only keeps its values in memory. It has no Android dependencies,
+ * so generated binders can be bound to it in plain JVM unit tests and benchmarks.
+ *
+ * Listeners are notified synchronously, before {@link Editor#apply()} returns. Changed keys are
+ * reported in the order they were put into the editor, and listeners are called in the order they
+ * were registered. As with SharedPreferences, listeners aren't notified of changes that don't
+ * change a key's value.
+ */
+public final class InMemoryPreferenceStore extends BasePreferenceStore {
+
+    // Guarded by this
+    private final Map<String, Object> values = new HashMap<String, Object>();
+
+    public InMemoryPreferenceStore() {}
+
+    /**
+     * @param initialValues The values the store starts with. Values must be Booleans, Floats,
+     *                      Integers, Longs, Strings or String Sets.
+     */
+    public InMemoryPreferenceStore(Map<String, ?> initialValues) {
+        for (Map.Entry<String, ?> value : initialValues.entrySet()) {
+            // Validates the value type
+            BinaryValues.typeOf(value.getValue());
+            values.put(value.getKey(), value.getValue());
+        }
+    }
+
+    @Override synchronized Object get(String key) {
+        return values.get(key);
+    }
+
+    @Override public synchronized boolean contains(String key) {
+        return values.containsKey(key);
+    }
+
+    @Override public synchronized Map<String, ?> getAll() {
+        return new HashMap<String, Object>(values);
+    }
+
+    @Override public Editor edit() {
+        return new BatchEditor() {
+            @Override public void apply() {
+                applyChanges(changes);
+            }
+        };
+    }
+
+    private void applyChanges(Map<String, Object> changes) {
+        final List<String> changedKeys = new ArrayList<String>(changes.size());
+
+        synchronized (this) {
+            for (Map.Entry<String, Object> change : changes.entrySet()) {
+                final String key = change.getKey();
+                final Object value = change.getValue();
+                if (value == BatchEditor.REMOVED) {
+                    if (values.containsKey(key)) {
+                        values.remove(key);
+                        changedKeys.add(key);
+                    }
+                } else if (!value.equals(values.put(key, value))) {
+                    changedKeys.add(key);
+                }
+            }
+        }
+
+        notifyListeners(changedKeys);
+    }
+
+}
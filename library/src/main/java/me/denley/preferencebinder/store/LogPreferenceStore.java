@@ -0,0 +1,433 @@
+package me.denley.preferencebinder.store;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.zip.CRC32;
+
+/**
+ * A {@link PreferenceStore} for frequently written values (e.g. counters or timestamps), which
+ * appends each applied batch of changes to a log file rather than rewriting all of its values.
+ *
+ * Values are kept in two files: a checkpoint holding every value as of some point, and a log of
+ * the changes applied since. Each batch is appended to the log as a single checksummed record, so
+ * applying changes only costs as much as the changes themselves. Once the log grows past the
+ * compaction threshold, a new checkpoint is written in the background and the log is cut back to
+ * the changes made since. Opening the store reads the checkpoint and replays the log, so load time
+ * is bounded by the number of values plus the threshold.
+ *
+ * Checkpoints and logs are replaced by atomically renaming a fully written and synced file. A
+ * record that was only partially written (e.g. due to power loss) is detected by its checksum and
+ * discarded along with any following it, so each batch is either restored in full or not at all.
+ * Appended records survive the process being killed, but are left to the operating system to flush
+ * to disk.
+ *
+ * Like {@link android.content.SharedPreferences.Editor#apply()}, applying changes never throws. If a
+ * record can't be appended, whatever part of it was written is cut off the log, the changes are kept
+ * in memory, and a checkpoint is written in the background instead.
+ *
+ * Listeners are notified synchronously, on the thread that applies the changes. Changes that are
+ * bound to views should therefore be applied on the main thread.
+ */
+public final class LogPreferenceStore extends BasePreferenceStore {
+
+    /** The default log size, in bytes, above which the log is compacted. */
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 64 * 1024;
+
+    private static final int CHECKPOINT_MAGIC = 0x50424350; // "PBCP"
+    private static final int LOG_MAGIC = 0x50424c47; // "PBLG"
+    private static final int VERSION = 1;
+    private static final int LOG_HEADER_SIZE = 8;
+
+    // Written in place of a value's type for removed keys
+    private static final byte TYPE_REMOVED = 0;
+
+    /**
+     * Opens a store with the default compaction threshold, compacting on a background thread shared
+     * by all file based stores.
+     *
+     * @see #open(File, int, Executor)
+     */
+    public static LogPreferenceStore open(File file) throws IOException {
+        return open(file, DEFAULT_COMPACTION_THRESHOLD, StoreFiles.getBackgroundExecutor());
+    }
+
+    /**
+     * Opens a store, creating it if it doesn't exist yet. Only one store should be opened for each file.
+     *
+     * @param file The checkpoint file. The log is kept alongside it, with a ".log" suffix.
+     * @param compactionThreshold The log size, in bytes, above which the log is compacted.
+     * @param executor The executor on which to compact the log.
+     * @return The opened store.
+     * @throws IOException If the files could not be read or created, or are not store files.
+     */
+    public static LogPreferenceStore open(File file, int compactionThreshold, Executor executor) throws IOException {
+        return new LogPreferenceStore(file, compactionThreshold, executor);
+    }
+
+
+    private final File file;
+    private final File logFile;
+    private final int compactionThreshold;
+    private final Executor executor;
+
+    // Guarded by this
+    private final Map<String, Object> values = new HashMap<String, Object>();
+    private long sequence;
+    private FileOutputStream log;
+    private long logLength;
+    // Set when a failed append may have left part of a record after logLength
+    private boolean isLogTruncationPending;
+    // Set when applied changes are missing from the log, and only a checkpoint can save them
+    private boolean needsCheckpoint;
+    private boolean isCompacting;
+
+    private final Runnable compaction = new Runnable() {
+        @Override public void run() {
+            compact();
+        }
+    };
+
+    private LogPreferenceStore(File file, int compactionThreshold, Executor executor) throws IOException {
+        this.file = file;
+        this.logFile = new File(file.getPath() + ".log");
+        this.compactionThreshold = compactionThreshold;
+        this.executor = executor;
+
+        final long checkpointSequence = file.exists() ? readCheckpoint() : 0;
+        sequence = checkpointSequence;
+        if (logFile.exists()) {
+            replayLog(checkpointSequence);
+        } else {
+            final ByteArrayOutputStream emptyLog = createLog(new byte[0]);
+            StoreFiles.writeAtomically(logFile, emptyLog);
+            logLength = emptyLog.size();
+        }
+        log = new FileOutputStream(logFile, true);
+    }
+
+    private long readCheckpoint() throws IOException {
+        final ByteBuffer reader = ByteBuffer.wrap(readFully(file, 0));
+        try {
+            if (reader.getInt() != CHECKPOINT_MAGIC) {
+                throw new IOException("Not a preference store file: " + file);
+            }
+            checkVersion(reader.getInt(), file);
+
+            final long checkpointSequence = reader.getLong();
+            final int count = reader.getInt();
+            for (int i = 0; i < count; i++) {
+                final String key = BinaryValues.readString(reader);
+                values.put(key, BinaryValues.readValue(reader, reader.get()));
+            }
+            return checkpointSequence;
+        } catch (RuntimeException e) {
+            // Buffer underflows, or unknown value types
+            throw new IOException("Corrupt preference store file: " + file, e);
+        }
+    }
+
+    private void replayLog(long checkpointSequence) throws IOException {
+        final byte[] bytes = readFully(logFile, 0);
+        final ByteBuffer reader = ByteBuffer.wrap(bytes);
+        if (bytes.length < LOG_HEADER_SIZE || reader.getInt() != LOG_MAGIC) {
+            throw new IOException("Not a preference log file: " + logFile);
+        }
+        checkVersion(reader.getInt(), logFile);
+
+        int validLength = LOG_HEADER_SIZE;
+        final CRC32 crc = new CRC32();
+        while (reader.remaining() >= 4) {
+            final int length = reader.getInt();
+            if (length < 0 || length > reader.remaining() - 4) {
+                break;
+            }
+
+            crc.reset();
+            crc.update(bytes, reader.position(), length);
+            if ((int) crc.getValue() != reader.getInt(reader.position() + length)) {
+                break;
+            }
+
+            final ByteBuffer record = ByteBuffer.wrap(bytes, reader.position(), length).slice();
+            try {
+                replayRecord(record, checkpointSequence);
+            } catch (RuntimeException e) {
+                throw new IOException("Corrupt preference log file: " + logFile, e);
+            }
+
+            reader.position(reader.position() + length + 4);
+            validLength = reader.position();
+        }
+
+        if (validLength < bytes.length) {
+            // Discard the partially written tail, so that new records aren't appended after it
+            final RandomAccessFile randomAccessFile = new RandomAccessFile(logFile, "rw");
+            try {
+                randomAccessFile.setLength(validLength);
+            } finally {
+                randomAccessFile.close();
+            }
+        }
+        logLength = validLength;
+    }
+
+    private void replayRecord(ByteBuffer record, long checkpointSequence) {
+        final long recordSequence = record.getLong();
+        if (recordSequence <= checkpointSequence) {
+            // Already included in the checkpoint
+            return;
+        }
+
+        final int count = record.getInt();
+        for (int i = 0; i < count; i++) {
+            final String key = BinaryValues.readString(record);
+            final byte type = record.get();
+            if (type == TYPE_REMOVED) {
+                values.remove(key);
+            } else {
+                values.put(key, BinaryValues.readValue(record, type));
+            }
+        }
+        sequence = recordSequence;
+    }
+
+    private static void checkVersion(int version, File file) throws IOException {
+        if (version != VERSION) {
+            throw new IOException("Unsupported preference store version " + version + ": " + file);
+        }
+    }
+
+    private static byte[] readFully(File file, long offset) throws IOException {
+        return readFully(file, offset, -1);
+    }
+
+    /** @param end The offset at which to stop reading, or -1 to read to the end of the file. */
+    private static byte[] readFully(File file, long offset, long end) throws IOException {
+        final RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        try {
+            final byte[] bytes = new byte[(int) ((end < 0 ? randomAccessFile.length() : end) - offset)];
+            randomAccessFile.seek(offset);
+            randomAccessFile.readFully(bytes);
+            return bytes;
+        } finally {
+            randomAccessFile.close();
+        }
+    }
+
+    @Override synchronized Object get(String key) {
+        return values.get(key);
+    }
+
+    @Override public synchronized boolean contains(String key) {
+        return values.containsKey(key);
+    }
+
+    @Override public synchronized Map<String, ?> getAll() {
+        return new HashMap<String, Object>(values);
+    }
+
+    @Override public Editor edit() {
+        return new BatchEditor() {
+            @Override public void apply() {
+                applyChanges(changes);
+            }
+        };
+    }
+
+    private void applyChanges(Map<String, Object> changes) {
+        final List<String> changedKeys = new ArrayList<String>(changes.size());
+
+        synchronized (this) {
+            final Map<String, Object> changedValues = new HashMap<String, Object>();
+            for (Map.Entry<String, Object> change : changes.entrySet()) {
+                final String key = change.getKey();
+                final Object value = change.getValue();
+                if (value == BatchEditor.REMOVED ? !values.containsKey(key) : value.equals(values.get(key))) {
+                    continue;
+                }
+                changedKeys.add(key);
+                changedValues.put(key, value);
+            }
+
+            if (changedKeys.isEmpty()) {
+                return;
+            }
+
+            try {
+                append(changedValues);
+            } catch (IOException e) {
+                // The changes are still applied, and saved by the next checkpoint
+                needsCheckpoint = true;
+            }
+
+            for (Map.Entry<String, Object> change : changedValues.entrySet()) {
+                if (change.getValue() == BatchEditor.REMOVED) {
+                    values.remove(change.getKey());
+                } else {
+                    values.put(change.getKey(), change.getValue());
+                }
+            }
+
+            if ((needsCheckpoint || logLength > compactionThreshold) && !isCompacting) {
+                isCompacting = true;
+                executor.execute(compaction);
+            }
+        }
+
+        notifyListeners(changedKeys);
+    }
+
+    private void append(Map<String, Object> changedValues) throws IOException {
+        if (isLogTruncationPending) {
+            truncateLog();
+        }
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+
+        // Leave room for the record length
+        out.writeInt(0);
+        out.writeLong(sequence + 1);
+        out.writeInt(changedValues.size());
+        for (Map.Entry<String, Object> change : changedValues.entrySet()) {
+            BinaryValues.writeString(out, change.getKey());
+            if (change.getValue() == BatchEditor.REMOVED) {
+                out.writeByte(TYPE_REMOVED);
+            } else {
+                BinaryValues.writeValue(out, change.getValue());
+            }
+        }
+        out.writeInt(0);
+        out.flush();
+
+        final byte[] record = bytes.toByteArray();
+        final int length = record.length - 8;
+        final CRC32 crc = new CRC32();
+        crc.update(record, 4, length);
+        ByteBuffer.wrap(record).putInt(0, length).putInt(record.length - 4, (int) crc.getValue());
+
+        // A single write, so that the record is never interleaved with another
+        try {
+            log.write(record);
+        } catch (IOException e) {
+            // Records appended after a partial record would be discarded with it on load
+            isLogTruncationPending = true;
+            try {
+                truncateLog();
+            } catch (IOException truncateException) {
+                // Attempted again before the next append, or fixed by the next checkpoint
+            }
+            throw e;
+        }
+        sequence++;
+        logLength += record.length;
+    }
+
+    private void truncateLog() throws IOException {
+        log.getChannel().truncate(logLength);
+        isLogTruncationPending = false;
+    }
+
+    private void compact() {
+        final Map<String, Object> snapshot;
+        final long snapshotSequence;
+        final long snapshotLogLength;
+        synchronized (this) {
+            snapshot = new HashMap<String, Object>(values);
+            snapshotSequence = sequence;
+            snapshotLogLength = logLength;
+            needsCheckpoint = false;
+        }
+
+        try {
+            // Records up to the snapshot are ignored on load once the checkpoint is in place,
+            // so a failure (or crash) before the log is cut back loses nothing
+            writeCheckpoint(snapshot, snapshotSequence);
+            replaceLog(snapshotLogLength);
+        } catch (IOException e) {
+            // The log is left as it is, and compaction is attempted again after the next change
+            synchronized (this) {
+                needsCheckpoint = true;
+            }
+        } finally {
+            synchronized (this) {
+                isCompacting = false;
+            }
+        }
+    }
+
+    private void writeCheckpoint(Map<String, Object> snapshot, long snapshotSequence) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(CHECKPOINT_MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(snapshotSequence);
+        out.writeInt(snapshot.size());
+        for (Map.Entry<String, Object> value : snapshot.entrySet()) {
+            BinaryValues.writeString(out, value.getKey());
+            BinaryValues.writeValue(out, value.getValue());
+        }
+        out.flush();
+
+        StoreFiles.writeAtomically(file, bytes);
+    }
+
+    /**
+     * Replaces the log with one containing only the records after the given offset. The new log is
+     * written and synced without holding the lock, as records are appended meanwhile. Only those
+     * records are copied while holding it, before the new log is renamed into place.
+     */
+    private void replaceLog(long offset) throws IOException {
+        final long copiedLength;
+        synchronized (this) {
+            // Anything after logLength is left over from a failed append
+            copiedLength = logLength;
+        }
+        final ByteArrayOutputStream bytes = createLog(readFully(logFile, offset, copiedLength));
+        final File tempFile = StoreFiles.writeTempFile(logFile, bytes);
+
+        synchronized (this) {
+            long newLogLength = bytes.size();
+            if (logLength > copiedLength) {
+                final byte[] appended = readFully(logFile, copiedLength, logLength);
+                final FileOutputStream tempOut = new FileOutputStream(tempFile, true);
+                try {
+                    // Not synced, like the records were when they were first appended
+                    tempOut.write(appended);
+                } finally {
+                    tempOut.close();
+                }
+                newLogLength += appended.length;
+            }
+
+            StoreFiles.replace(logFile, tempFile);
+            final FileOutputStream oldLog = log;
+            log = new FileOutputStream(logFile, true);
+            logLength = newLogLength;
+            isLogTruncationPending = false;
+            oldLog.close();
+        }
+        StoreFiles.syncDirectory(logFile);
+    }
+
+    private static ByteArrayOutputStream createLog(byte[] records) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(LOG_HEADER_SIZE + records.length);
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(LOG_MAGIC);
+        out.writeInt(VERSION);
+        out.write(records);
+        out.flush();
+        return bytes;
+    }
+
+}
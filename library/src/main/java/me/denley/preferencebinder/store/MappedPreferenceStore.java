@@ -0,0 +1,328 @@
+package me.denley.preferencebinder.store;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * A {@link PreferenceStore} kept in a compact binary file, which is memory-mapped rather than
+ * parsed up front.
+ *
+ * Opening the store only indexes the keys; each value is decoded the first time it is read.
+ *
+ * Like {@link android.content.SharedPreferences.Editor#apply()}, applying changes updates the
+ * store's values in memory straight away, and writes them to the file in the background. A write
+ * that only replaces a single int, long, float or boolean value with another value of the same type
+ * is made in place in the mapped file, which is then forced to disk. Any other write (changing
+ * several keys, adding or removing a key, changing a string or string set, or changing a value's
+ * type) rewrites the whole file to a temporary file, syncs it to disk, and atomically renames it
+ * over the original. The file is therefore never left partially written, and a write is either
+ * entirely in the new file or not at all. Changes applied while a write is in progress are written
+ * together once it finishes.
+ *
+ * Applying changes never throws. If a write fails, the changes are kept in memory, and writing
+ * them is attempted again after the next change.
+ *
+ * A rewrite maps the new file, and drops the previous mapping. Java can't unmap a file explicitly,
+ * so the previous mapping is released once it is garbage collected.
+ *
+ * Listeners are notified synchronously, on the thread that applies the changes. Changes that are
+ * bound to views should therefore be applied on the main thread.
+ */
+public final class MappedPreferenceStore extends BasePreferenceStore {
+
+    private static final int MAGIC = 0x50424d53; // "PBMS"
+    private static final int VERSION = 1;
+
+    /**
+     * Opens a store, which writes changes on a background thread shared by all file based stores.
+     *
+     * @see #open(File, Executor)
+     */
+    public static MappedPreferenceStore open(File file) throws IOException {
+        return open(file, StoreFiles.getBackgroundExecutor());
+    }
+
+    /**
+     * Opens a store, creating an empty store file if it doesn't exist yet. Only one store should be
+     * opened for each file.
+     *
+     * @param file The file in which to keep the preferences.
+     * @param executor The executor on which changes are written to the file.
+     * @return The opened store.
+     * @throws IOException If the file could not be read or created, or is not a store file.
+     */
+    public static MappedPreferenceStore open(File file, Executor executor) throws IOException {
+        return new MappedPreferenceStore(file, executor);
+    }
+
+
+    private final File file;
+    private final Executor executor;
+
+    // Guarded by this
+    private final Map<String, Entry> entries = new HashMap<String, Entry>();
+    private MappedByteBuffer buffer;
+    // Applied changes that are not yet in the file (removed keys map to BatchEditor.REMOVED)
+    private final Map<String, Object> pendingValues = new HashMap<String, Object>();
+    private boolean isWriteScheduled;
+
+    private final Runnable writer = new Runnable() {
+        @Override public void run() {
+            writePendingValues();
+        }
+    };
+
+    private MappedPreferenceStore(File file, Executor executor) throws IOException {
+        this.file = file;
+        this.executor = executor;
+
+        if (!file.exists()) {
+            writeFile(new HashMap<String, Object>());
+        }
+        buffer = map();
+        readIndex(buffer, entries);
+    }
+
+    /** A key's position in the mapped file, and its decoded value once it has been read. */
+    private static final class Entry {
+        final byte type;
+        final int offset;
+        Object value;
+
+        Entry(byte type, int offset) {
+            this.type = type;
+            this.offset = offset;
+        }
+    }
+
+    private MappedByteBuffer map() throws IOException {
+        final RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+        try {
+            // The mapping stays valid after the file is closed
+            return randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, randomAccessFile.length());
+        } finally {
+            randomAccessFile.close();
+        }
+    }
+
+    private void readIndex(MappedByteBuffer buffer, Map<String, Entry> entries) throws IOException {
+        entries.clear();
+
+        final ByteBuffer reader = buffer.duplicate();
+        try {
+            if (reader.getInt() != MAGIC) {
+                throw new IOException("Not a preference store file: " + file);
+            }
+            final int version = reader.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported preference store version " + version + ": " + file);
+            }
+
+            final int count = reader.getInt();
+            for (int i = 0; i < count; i++) {
+                final String key = BinaryValues.readString(reader);
+                final byte type = reader.get();
+                entries.put(key, new Entry(type, reader.position()));
+                BinaryValues.skipValue(reader, type);
+            }
+        } catch (RuntimeException e) {
+            // Buffer underflows, or unknown value types
+            throw new IOException("Corrupt preference store file: " + file, e);
+        }
+    }
+
+    private Object decode(Entry entry) {
+        if (!BinaryValues.isFixedWidth(entry.type)) {
+            if (entry.value == null) {
+                final ByteBuffer reader = buffer.duplicate();
+                reader.position(entry.offset);
+                entry.value = BinaryValues.readValue(reader, entry.type);
+            }
+            return entry.value;
+        }
+
+        // Fixed width values may be updated in place, so are read from the file every time
+        final ByteBuffer reader = buffer.duplicate();
+        reader.position(entry.offset);
+        return BinaryValues.readValue(reader, entry.type);
+    }
+
+    @Override synchronized Object get(String key) {
+        if (pendingValues.containsKey(key)) {
+            final Object value = pendingValues.get(key);
+            return value == BatchEditor.REMOVED ? null : value;
+        }
+        final Entry entry = entries.get(key);
+        return entry == null ? null : decode(entry);
+    }
+
+    @Override public synchronized boolean contains(String key) {
+        if (pendingValues.containsKey(key)) {
+            return pendingValues.get(key) != BatchEditor.REMOVED;
+        }
+        return entries.containsKey(key);
+    }
+
+    @Override public synchronized Map<String, ?> getAll() {
+        return currentValues();
+    }
+
+    // Must be called while holding the lock
+    private Map<String, Object> currentValues() {
+        final Map<String, Object> values = new HashMap<String, Object>(entries.size() * 2);
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            values.put(entry.getKey(), decode(entry.getValue()));
+        }
+        for (Map.Entry<String, Object> pendingValue : pendingValues.entrySet()) {
+            if (pendingValue.getValue() == BatchEditor.REMOVED) {
+                values.remove(pendingValue.getKey());
+            } else {
+                values.put(pendingValue.getKey(), pendingValue.getValue());
+            }
+        }
+        return values;
+    }
+
+    @Override public Editor edit() {
+        return new BatchEditor() {
+            @Override public void apply() {
+                applyChanges(changes);
+            }
+        };
+    }
+
+    private void applyChanges(Map<String, Object> changes) {
+        final List<String> changedKeys = new ArrayList<String>(changes.size());
+
+        synchronized (this) {
+            for (Map.Entry<String, Object> change : changes.entrySet()) {
+                final String key = change.getKey();
+                final Object value = change.getValue();
+                if (value == BatchEditor.REMOVED ? !contains(key) : value.equals(get(key))) {
+                    continue;
+                }
+                changedKeys.add(key);
+                pendingValues.put(key, value);
+            }
+
+            if (changedKeys.isEmpty()) {
+                return;
+            }
+
+            if (!isWriteScheduled) {
+                isWriteScheduled = true;
+                executor.execute(writer);
+            }
+        }
+
+        notifyListeners(changedKeys);
+    }
+
+    /** Writes pending values until there are none left. Only one call runs at a time. */
+    private void writePendingValues() {
+        while (true) {
+            final Map<String, Object> writtenValues;
+            final MappedByteBuffer inPlaceBuffer;
+            final Map<String, Object> values;
+
+            synchronized (this) {
+                if (pendingValues.isEmpty()) {
+                    isWriteScheduled = false;
+                    return;
+                }
+
+                writtenValues = new HashMap<String, Object>(pendingValues);
+                if (canWriteInPlace(writtenValues)) {
+                    // Reads see the new value straight away, as they read from the same mapping
+                    final Map.Entry<String, Object> change = writtenValues.entrySet().iterator().next();
+                    BinaryValues.putFixedWidthValue(buffer, entries.get(change.getKey()).offset, change.getValue());
+                    pendingValues.remove(change.getKey());
+                    inPlaceBuffer = buffer;
+                    values = null;
+                } else {
+                    inPlaceBuffer = null;
+                    values = currentValues();
+                }
+            }
+
+            if (inPlaceBuffer != null) {
+                inPlaceBuffer.force();
+            } else if (!rewrite(values, writtenValues)) {
+                // The values are kept in memory, and written after the next change
+                synchronized (this) {
+                    isWriteScheduled = false;
+                }
+                return;
+            }
+        }
+    }
+
+    // Only single values are written in place, as a crash could leave several partially written
+    private boolean canWriteInPlace(Map<String, Object> changedValues) {
+        if (changedValues.size() != 1) {
+            return false;
+        }
+        final Map.Entry<String, Object> change = changedValues.entrySet().iterator().next();
+        final Entry entry = entries.get(change.getKey());
+        return entry != null && change.getValue() != BatchEditor.REMOVED
+                && BinaryValues.isFixedWidth(entry.type) && entry.type == BinaryValues.typeOf(change.getValue());
+    }
+
+    /**
+     * Writes a new file, outside of the lock, and then switches to it.
+     *
+     * @return Whether the file was written.
+     */
+    private boolean rewrite(Map<String, Object> values, Map<String, Object> writtenValues) {
+        final MappedByteBuffer newBuffer;
+        final Map<String, Entry> newEntries = new HashMap<String, Entry>(values.size() * 2);
+        try {
+            writeFile(values);
+            newBuffer = map();
+            readIndex(newBuffer, newEntries);
+        } catch (IOException e) {
+            return false;
+        }
+
+        synchronized (this) {
+            buffer = newBuffer;
+            entries.clear();
+            entries.putAll(newEntries);
+
+            // Keys that changed again during the write are still pending
+            for (Map.Entry<String, Object> writtenValue : writtenValues.entrySet()) {
+                if (pendingValues.get(writtenValue.getKey()) == writtenValue.getValue()) {
+                    pendingValues.remove(writtenValue.getKey());
+                }
+            }
+        }
+        return true;
+    }
+
+    private void writeFile(Map<String, Object> values) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(values.size());
+        for (Map.Entry<String, Object> value : values.entrySet()) {
+            BinaryValues.writeString(out, value.getKey());
+            BinaryValues.writeValue(out, value.getValue());
+        }
+        out.flush();
+
+        StoreFiles.writeAtomically(file, bytes);
+    }
+
+}
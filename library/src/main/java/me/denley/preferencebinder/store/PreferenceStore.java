@@ -0,0 +1,72 @@
+package me.denley.preferencebinder.store;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A key-value store of preference values that targets can be bound to.
+ *
+ * Bindings use {@link SharedPreferencesStore} by default. Other implementations can be bound with
+ * {@link me.denley.preferencebinder.PreferenceBinder#bind(Object, PreferenceStore)}.
+ */
+public interface PreferenceStore {
+
+    /** Listener for changes to the values in a {@link PreferenceStore}. */
+    interface OnChangeListener {
+        /**
+         * Called when the value for a key is added, changed, or removed.
+         *
+         * @param store The store in which the value changed.
+         * @param key The key of the changed value.
+         */
+        void onPreferenceChanged(PreferenceStore store, String key);
+    }
+
+    /** A batch of changes, applied to the store together. */
+    interface Editor {
+        Editor putBoolean(String key, boolean value);
+        Editor putFloat(String key, float value);
+        Editor putInt(String key, int value);
+        Editor putLong(String key, long value);
+        Editor putString(String key, String value);
+        Editor putStringSet(String key, Set<String> values);
+        Editor remove(String key);
+
+        /** Applies the changes in this batch. Listeners are notified once for each changed key. */
+        void apply();
+    }
+
+    boolean contains(String key);
+
+    boolean getBoolean(String key, boolean defaultValue);
+
+    float getFloat(String key, float defaultValue);
+
+    int getInt(String key, int defaultValue);
+
+    long getLong(String key, long defaultValue);
+
+    String getString(String key, String defaultValue);
+
+    Set<String> getStringSet(String key, Set<String> defaultValues);
+
+    /**
+     * @return A consistent snapshot of all values in the store. Primitive values are boxed
+     * (e.g. int values are stored as {@link Integer}).
+     */
+    Map<String, ?> getAll();
+
+    /**
+     * @param keys The keys to read.
+     * @return A consistent snapshot of the values for the given keys, leaving out keys that have
+     * no value. Primitive values are boxed, as with {@link #getAll()}.
+     */
+    Map<String, ?> getValues(String[] keys);
+
+    Editor edit();
+
+    void registerOnChangeListener(OnChangeListener listener);
+
+    void unregisterOnChangeListener(OnChangeListener listener);
+
+}
@@ -0,0 +1,181 @@
+package me.denley.preferencebinder.store;
+
+import android.content.SharedPreferences;
+import android.content.SharedPreferences.OnSharedPreferenceChangeListener;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A {@link PreferenceStore} backed by {@link SharedPreferences}. This is the store used by default.
+ *
+ * Listeners are notified on the main thread.
+ */
+public final class SharedPreferencesStore implements PreferenceStore {
+
+    // Stores are held weakly (each store refers to its key), so that neither is leaked once unused
+    private static final Map<SharedPreferences, WeakReference<SharedPreferencesStore>> STORES
+            = new WeakHashMap<SharedPreferences, WeakReference<SharedPreferencesStore>>();
+
+    // Stores with registered listeners, which must not be collected while they are still notified
+    private static final Set<SharedPreferencesStore> LISTENING_STORES
+            = Collections.synchronizedSet(new HashSet<SharedPreferencesStore>());
+
+    /**
+     * @param prefs The SharedPreferences object to wrap.
+     * @return The store for the given SharedPreferences object. The same store is always returned for the same object.
+     */
+    public static SharedPreferencesStore wrap(SharedPreferences prefs) {
+        synchronized (STORES) {
+            final WeakReference<SharedPreferencesStore> reference = STORES.get(prefs);
+            SharedPreferencesStore store = reference == null ? null : reference.get();
+            if (store == null) {
+                store = new SharedPreferencesStore(prefs);
+                STORES.put(prefs, new WeakReference<SharedPreferencesStore>(store));
+            }
+            return store;
+        }
+    }
+
+
+    private final SharedPreferences prefs;
+
+    // SharedPreferences only holds its listeners weakly, so they are held here
+    private final ConcurrentMap<OnChangeListener, OnSharedPreferenceChangeListener> listeners
+            = new ConcurrentHashMap<OnChangeListener, OnSharedPreferenceChangeListener>();
+
+    private SharedPreferencesStore(SharedPreferences prefs) {
+        this.prefs = prefs;
+    }
+
+    /** @return The wrapped SharedPreferences object. */
+    public SharedPreferences getSharedPreferences() {
+        return prefs;
+    }
+
+    @Override public boolean contains(String key) {
+        return prefs.contains(key);
+    }
+
+    @Override public boolean getBoolean(String key, boolean defaultValue) {
+        return prefs.getBoolean(key, defaultValue);
+    }
+
+    @Override public float getFloat(String key, float defaultValue) {
+        return prefs.getFloat(key, defaultValue);
+    }
+
+    @Override public int getInt(String key, int defaultValue) {
+        return prefs.getInt(key, defaultValue);
+    }
+
+    @Override public long getLong(String key, long defaultValue) {
+        return prefs.getLong(key, defaultValue);
+    }
+
+    @Override public String getString(String key, String defaultValue) {
+        return prefs.getString(key, defaultValue);
+    }
+
+    @Override public Set<String> getStringSet(String key, Set<String> defaultValues) {
+        return prefs.getStringSet(key, defaultValues);
+    }
+
+    @Override public Map<String, ?> getAll() {
+        return prefs.getAll();
+    }
+
+    // SharedPreferences can only read several values at once by copying all of them
+    @Override public Map<String, ?> getValues(String[] keys) {
+        final Map<String, ?> all = prefs.getAll();
+        final Map<String, Object> values = new HashMap<String, Object>(keys.length * 2);
+        for (String key : keys) {
+            final Object value = all.get(key);
+            if (value != null) {
+                values.put(key, value);
+            }
+        }
+        return values;
+    }
+
+    @Override public Editor edit() {
+        return new SharedPreferencesEditor(prefs.edit());
+    }
+
+    @Override public synchronized void registerOnChangeListener(final OnChangeListener listener) {
+        final OnSharedPreferenceChangeListener prefsListener = new OnSharedPreferenceChangeListener() {
+            @Override public void onSharedPreferenceChanged(SharedPreferences sharedPreferences, String key) {
+                listener.onPreferenceChanged(SharedPreferencesStore.this, key);
+            }
+        };
+        if (listeners.putIfAbsent(listener, prefsListener) == null) {
+            LISTENING_STORES.add(this);
+            prefs.registerOnSharedPreferenceChangeListener(prefsListener);
+        }
+    }
+
+    @Override public synchronized void unregisterOnChangeListener(OnChangeListener listener) {
+        final OnSharedPreferenceChangeListener prefsListener = listeners.remove(listener);
+        if (prefsListener != null) {
+            prefs.unregisterOnSharedPreferenceChangeListener(prefsListener);
+            if (listeners.isEmpty()) {
+                LISTENING_STORES.remove(this);
+            }
+        }
+    }
+
+    private static final class SharedPreferencesEditor implements Editor {
+        private final SharedPreferences.Editor editor;
+
+        SharedPreferencesEditor(SharedPreferences.Editor editor) {
+            this.editor = editor;
+        }
+
+        @Override public Editor putBoolean(String key, boolean value) {
+            editor.putBoolean(key, value);
+            return this;
+        }
+
+        @Override public Editor putFloat(String key, float value) {
+            editor.putFloat(key, value);
+            return this;
+        }
+
+        @Override public Editor putInt(String key, int value) {
+            editor.putInt(key, value);
+            return this;
+        }
+
+        @Override public Editor putLong(String key, long value) {
+            editor.putLong(key, value);
+            return this;
+        }
+
+        @Override public Editor putString(String key, String value) {
+            editor.putString(key, value);
+            return this;
+        }
+
+        @Override public Editor putStringSet(String key, Set<String> values) {
+            editor.putStringSet(key, values);
+            return this;
+        }
+
+        @Override public Editor remove(String key) {
+            editor.remove(key);
+            return this;
+        }
+
+        @Override public void apply() {
+            editor.apply();
+        }
+    }
+
+}
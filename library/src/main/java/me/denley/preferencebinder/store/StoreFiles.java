@@ -0,0 +1,101 @@
+package me.denley.preferencebinder.store;
+
+import android.os.Build;
+import android.system.ErrnoException;
+import android.system.Os;
+import android.system.OsConstants;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/** File writes and the background thread shared by file based stores. */
+final class StoreFiles {
+    private StoreFiles(){
+        throw new AssertionError("Instances are not allowed");
+    }
+
+    private static ExecutorService backgroundExecutor;
+
+    /**
+     * @return A single background thread shared by all file based stores. It is a daemon thread,
+     * so it never keeps a JVM (e.g. running unit tests) alive.
+     */
+    static synchronized Executor getBackgroundExecutor() {
+        if (backgroundExecutor == null) {
+            backgroundExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override public Thread newThread(Runnable runnable) {
+                    final Thread thread = new Thread(runnable, "PreferenceStore");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return backgroundExecutor;
+    }
+
+    /**
+     * Replaces the given file with the given bytes. They are written to a temporary file and synced
+     * to disk, and the temporary file is then renamed over the original. The rename is made durable
+     * by syncing the directory where the platform allows it.
+     */
+    static void writeAtomically(File file, ByteArrayOutputStream bytes) throws IOException {
+        replace(file, writeTempFile(file, bytes));
+        syncDirectory(file);
+    }
+
+    /** @return A temporary file alongside the given one, containing the given bytes synced to disk. */
+    static File writeTempFile(File file, ByteArrayOutputStream bytes) throws IOException {
+        final File tempFile = new File(file.getPath() + ".tmp");
+        final FileOutputStream fileOut = new FileOutputStream(tempFile);
+        try {
+            bytes.writeTo(fileOut);
+            fileOut.flush();
+            fileOut.getFD().sync();
+        } finally {
+            fileOut.close();
+        }
+        return tempFile;
+    }
+
+    /** Atomically renames the temporary file over the given file. */
+    static void replace(File file, File tempFile) throws IOException {
+        if (!tempFile.renameTo(file)) {
+            tempFile.delete();
+            throw new IOException("Unable to replace preference store file: " + file);
+        }
+    }
+
+    /** Makes a rename of the given file durable, where the platform allows it. */
+    static void syncDirectory(File file) throws IOException {
+        // Directories can't be opened with java.io, so this needs android.system.Os. Elsewhere
+        // (including on the JVM), the rename is left to the file system to persist.
+        final File directory = file.getAbsoluteFile().getParentFile();
+        if (directory != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+            DirectorySync.sync(directory);
+        }
+    }
+
+    // Separate class, so that android.system classes are only loaded on Android 5.0 and later
+    private static final class DirectorySync {
+        static void sync(File directory) throws IOException {
+            try {
+                final FileDescriptor fd = Os.open(directory.getPath(), OsConstants.O_RDONLY, 0);
+                try {
+                    Os.fsync(fd);
+                } finally {
+                    Os.close(fd);
+                }
+            } catch (ErrnoException e) {
+                throw new IOException("Unable to sync directory: " + directory, e);
+            }
+        }
+    }
+
+}
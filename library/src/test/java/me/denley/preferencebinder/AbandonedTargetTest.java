@@ -0,0 +1,69 @@
+package me.denley.preferencebinder;
+
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import me.denley.preferencebinder.store.InMemoryPreferenceStore;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/** Checks that targets which are bound but never unbound can still be garbage collected. */
+public class AbandonedTargetTest {
+
+    private static final int TARGETS = 1000;
+
+    static class Target {
+        @BindPref("count") int count;
+        // Makes a leak easy to see in a heap dump
+        final byte[] payload = new byte[1024];
+    }
+
+    @Test public void abandonedTargetsAreCollected() throws InterruptedException {
+        final InMemoryPreferenceStore store = new InMemoryPreferenceStore();
+        final List<WeakReference<Target>> references = bindAbandonedTargets(store);
+
+        assertTrue("Abandoned targets were not collected", awaitCollection(references));
+
+        // Stale subscribers are removed when they are next notified
+        store.edit().putInt("count", 1).apply();
+        assertFalse("Stale subscribers are still registered",
+                PreferenceChangeMultiplexer.MULTIPLEXERS.containsKey(store));
+    }
+
+    // Separate method, so that no strong reference to the targets is left on the test's stack
+    private static List<WeakReference<Target>> bindAbandonedTargets(InMemoryPreferenceStore store) {
+        final List<WeakReference<Target>> references = new ArrayList<WeakReference<Target>>(TARGETS);
+        for (int i = 0; i < TARGETS; i++) {
+            final Target target = new Target();
+            PreferenceBinder.bind(target, store);
+            references.add(new WeakReference<Target>(target));
+        }
+        return references;
+    }
+
+    private static boolean awaitCollection(List<WeakReference<Target>> references) throws InterruptedException {
+        for (int attempt = 0; attempt < 50; attempt++) {
+            System.gc();
+            if (countReachable(references) == 0) {
+                return true;
+            }
+            Thread.sleep(20);
+        }
+        return false;
+    }
+
+    private static int countReachable(List<WeakReference<Target>> references) {
+        int reachable = 0;
+        for (WeakReference<Target> reference : references) {
+            if (reference.get() != null) {
+                reachable++;
+            }
+        }
+        return reachable;
+    }
+
+}
@@ -0,0 +1,110 @@
+package me.denley.preferencebinder;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import me.denley.preferencebinder.store.InMemoryPreferenceStore;
+
+import static org.junit.Assert.assertEquals;
+
+public class BatchUpdatesTest {
+
+    static class Target {
+        @BindPref("name") String name;
+        @BindPref("count") int count;
+        final List<String> names = new ArrayList<String>();
+
+        @BindPref(value = "name", skipUnchanged = false) void onName(String name) {
+            names.add(name);
+        }
+    }
+
+    private final QueuedExecutor mainThread = new QueuedExecutor();
+    private final InMemoryPreferenceStore store = new InMemoryPreferenceStore();
+    private final Target first = new Target();
+    private final Target second = new Target();
+
+    @Before public void setUp() {
+        PreferenceBinder.setMainThreadExecutor(mainThread);
+        PreferenceBinder.setBatchUpdates(true);
+        store.edit().putString("name", "a").putInt("count", 1).apply();
+        PreferenceBinder.bind(first, store);
+        PreferenceBinder.bind(second, store);
+    }
+
+    @After public void tearDown() {
+        PreferenceBinder.unbind(first);
+        PreferenceBinder.unbind(second);
+        PreferenceBinder.setBatchUpdates(false);
+        PreferenceBinder.setMainThreadExecutor(null);
+    }
+
+    @Test public void initialValuesAreNotBatched() {
+        assertEquals("a", first.name);
+        assertEquals(1, first.count);
+        assertEquals(0, mainThread.pendingCount());
+    }
+
+    @Test public void changesAreAppliedWhenFlushed() {
+        store.edit().putString("name", "b").putInt("count", 2).apply();
+        assertEquals("a", first.name);
+        assertEquals(1, first.count);
+
+        mainThread.runPending();
+        assertEquals("b", first.name);
+        assertEquals(2, first.count);
+        assertEquals("b", second.name);
+        assertEquals(2, second.count);
+    }
+
+    @Test public void severalChangesAreFlushedOnceWithLatestValues() {
+        store.edit().putString("name", "b").apply();
+        store.edit().putInt("count", 2).apply();
+        store.edit().putString("name", "c").apply();
+        assertEquals(1, mainThread.pendingCount());
+
+        mainThread.runPending();
+        assertEquals("c", first.name);
+        assertEquals(2, first.count);
+        final List<String> expected = new ArrayList<String>();
+        expected.add("a");
+        expected.add("c");
+        assertEquals(expected, first.names);
+    }
+
+    @Test public void laterChangesAreFlushedAgain() {
+        store.edit().putInt("count", 2).apply();
+        mainThread.runPending();
+        store.edit().putInt("count", 3).apply();
+        assertEquals(1, mainThread.pendingCount());
+
+        mainThread.runPending();
+        assertEquals(3, first.count);
+    }
+
+    @Test public void changesToUnboundKeysAreNotScheduled() {
+        store.edit().putInt("other", 1).apply();
+        assertEquals(0, mainThread.pendingCount());
+    }
+
+    @Test public void unboundTargetIsNotUpdatedWhenFlushed() {
+        store.edit().putInt("count", 2).apply();
+        PreferenceBinder.unbind(first);
+
+        mainThread.runPending();
+        assertEquals(1, first.count);
+        assertEquals(2, second.count);
+    }
+
+    @Test public void changesAreAppliedStraightAwayOnceDisabled() {
+        PreferenceBinder.setBatchUpdates(false);
+        store.edit().putInt("count", 2).apply();
+        assertEquals(2, first.count);
+        assertEquals(0, mainThread.pendingCount());
+    }
+
+}
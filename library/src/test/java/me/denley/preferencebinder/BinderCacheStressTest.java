@@ -0,0 +1,111 @@
+package me.denley.preferencebinder;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import me.denley.preferencebinder.store.InMemoryPreferenceStore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/** Binds and unbinds from many threads at once, starting with an empty binder cache. */
+public class BinderCacheStressTest {
+
+    private static final int THREADS = 16;
+    private static final int ITERATIONS = 5000;
+
+    static class Parent {
+        @BindPref("parent") int parent;
+    }
+
+    static class Child extends Parent {
+        @BindPref("child") String child;
+    }
+
+    static class GrandChild extends Child {}
+
+    static class Unrelated {
+        @BindPref("parent") int value;
+    }
+
+    private InMemoryPreferenceStore store;
+
+    @Before public void setUp() {
+        PreferenceBinder.BINDERS.clear();
+
+        final Map<String, Object> values = new HashMap<String, Object>();
+        values.put("parent", 7);
+        values.put("child", "value");
+        store = new InMemoryPreferenceStore(values);
+    }
+
+    @Test public void concurrentBindAndUnbind() throws Exception {
+        final Set<Object> childBinders = Collections.newSetFromMap(new ConcurrentHashMap<Object, Boolean>());
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        final List<Future<?>> results = new ArrayList<Future<?>>();
+
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(new Callable<Void>() {
+                @Override public Void call() throws Exception {
+                    start.await();
+                    for (int j = 0; j < ITERATIONS; j++) {
+                        bindAndUnbind(j % 4);
+                    }
+                    childBinders.add(PreferenceBinder.findBinderForClass(Child.class));
+                    return null;
+                }
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> result : results) {
+            // Rethrows any failure from the bind threads
+            result.get();
+        }
+        executor.shutdown();
+
+        assertEquals("All threads share one binder per class", 1, childBinders.size());
+        assertEquals(childBinders.iterator().next(), PreferenceBinder.BINDERS.get(GrandChild.class));
+        assertFalse("Every target was unbound", PreferenceChangeMultiplexer.MULTIPLEXERS.containsKey(store));
+    }
+
+    private void bindAndUnbind(int kind) {
+        switch (kind) {
+            case 0:
+                final Parent parent = new Parent();
+                PreferenceBinder.bind(parent, store);
+                assertEquals(7, parent.parent);
+                PreferenceBinder.unbind(parent);
+                break;
+            case 1:
+            case 2:
+                final Child child = kind == 1 ? new Child() : new GrandChild();
+                PreferenceBinder.bind(child, store);
+                assertEquals(7, child.parent);
+                assertEquals("value", child.child);
+                PreferenceBinder.unbind(child);
+                break;
+            default:
+                final Unrelated unrelated = new Unrelated();
+                PreferenceBinder.bind(unrelated, store);
+                assertEquals(7, unrelated.value);
+                PreferenceBinder.unbind(unrelated);
+                break;
+        }
+    }
+
+}
@@ -0,0 +1,67 @@
+package me.denley.preferencebinder;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import me.denley.preferencebinder.store.InMemoryPreferenceStore;
+
+import static org.junit.Assert.assertEquals;
+
+public class CoalescedCallbackTest {
+
+    static class Target {
+        int calls;
+
+        @BindPref(value = {"first", "second", "third"}, coalesce = true) void onChanged() {
+            calls++;
+        }
+    }
+
+    private final QueuedExecutor mainThread = new QueuedExecutor();
+    private final InMemoryPreferenceStore store = new InMemoryPreferenceStore();
+    private final Target target = new Target();
+
+    @Before public void setUp() {
+        PreferenceBinder.setMainThreadExecutor(mainThread);
+        store.edit().putInt("first", 0).apply();
+        PreferenceBinder.bind(target, store);
+    }
+
+    @After public void tearDown() {
+        PreferenceBinder.unbind(target);
+        PreferenceBinder.setMainThreadExecutor(null);
+    }
+
+    @Test public void calledOnceWhenBound() {
+        assertEquals(1, target.calls);
+        assertEquals(0, mainThread.pendingCount());
+    }
+
+    @Test public void changesToSeveralKeysCallOnce() {
+        store.edit().putInt("first", 1).putInt("second", 2).putInt("third", 3).apply();
+        store.edit().putInt("first", 4).apply();
+        assertEquals(1, target.calls);
+        assertEquals(1, mainThread.pendingCount());
+
+        mainThread.runPending();
+        assertEquals(2, target.calls);
+    }
+
+    @Test public void laterChangesCallAgain() {
+        store.edit().putInt("first", 1).apply();
+        mainThread.runPending();
+        store.edit().putInt("second", 2).apply();
+        mainThread.runPending();
+        assertEquals(3, target.calls);
+    }
+
+    @Test public void notCalledAfterUnbind() {
+        store.edit().putInt("first", 1).apply();
+        PreferenceBinder.unbind(target);
+
+        mainThread.runPending();
+        assertEquals(1, target.calls);
+    }
+
+}
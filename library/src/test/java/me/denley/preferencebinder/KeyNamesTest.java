@@ -0,0 +1,44 @@
+package me.denley.preferencebinder;
+
+import org.junit.Test;
+
+import me.denley.preferencebinder.store.InMemoryPreferenceStore;
+
+import static org.junit.Assert.assertEquals;
+
+/** Checks that keys may have the same names as the variables used by generated binders. */
+public class KeyNamesTest {
+
+    static class Target {
+        @BindPref("values") int values;
+        @BindPref("subscriber") int subscriber;
+        @BindPref("initialValues") int initialValues;
+        @BindPref("coalesced0") int coalesced0;
+        @BindPref("snapshot0") int snapshot0;
+        @BindPref("snapshot1") int snapshot1;
+        @BindPref("snapshot2") int snapshot2;
+        @BindPref("snapshot3") int snapshot3;
+        int calls;
+
+        @BindPref(value = {"values", "subscriber"}, coalesce = true) void onChanged() {
+            calls++;
+        }
+    }
+
+    @Test public void keysNamedAfterGeneratedVariablesAreBound() {
+        final InMemoryPreferenceStore store = new InMemoryPreferenceStore();
+        store.edit().putInt("values", 1).putInt("subscriber", 2).putInt("initialValues", 3).apply();
+        final Target target = new Target();
+
+        PreferenceBinder.bind(target, store);
+        assertEquals(1, target.values);
+        assertEquals(2, target.subscriber);
+        assertEquals(3, target.initialValues);
+        assertEquals(1, target.calls);
+
+        store.edit().putInt("subscriber", 4).apply();
+        assertEquals(4, target.subscriber);
+        PreferenceBinder.unbind(target);
+    }
+
+}
@@ -0,0 +1,106 @@
+package me.denley.preferencebinder;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import me.denley.preferencebinder.store.InMemoryPreferenceStore;
+
+import static org.junit.Assert.assertEquals;
+
+public class PauseResumeTest {
+
+    static class Target {
+        @BindPref("count") int count;
+        final List<Integer> counts = new ArrayList<Integer>();
+        int refreshes;
+
+        @BindPref(value = "count", skipUnchanged = false) void onCount(int count) {
+            counts.add(count);
+        }
+
+        @BindPref(value = {"count", "name"}, coalesce = true) void refresh() {
+            refreshes++;
+        }
+    }
+
+    // The superclass's bindings are paused with the subclass's
+    static class ChildTarget extends Target {
+        @BindPref("name") String name;
+    }
+
+    private final QueuedExecutor mainThread = new QueuedExecutor();
+    private final InMemoryPreferenceStore store = new InMemoryPreferenceStore();
+    private final ChildTarget target = new ChildTarget();
+    private final ChildTarget other = new ChildTarget();
+
+    @Before public void setUp() {
+        PreferenceBinder.setMainThreadExecutor(mainThread);
+        store.edit().putInt("count", 1).putString("name", "a").apply();
+        PreferenceBinder.bind(target, store);
+        PreferenceBinder.bind(other, store);
+        PreferenceBinder.pause(target);
+    }
+
+    @After public void tearDown() {
+        PreferenceBinder.unbind(target);
+        PreferenceBinder.unbind(other);
+        PreferenceBinder.setMainThreadExecutor(null);
+    }
+
+    @Test public void changesAreNotAppliedWhilePaused() {
+        store.edit().putInt("count", 2).putString("name", "b").apply();
+        assertEquals(1, target.count);
+        assertEquals("a", target.name);
+        assertEquals(1, target.counts.size());
+
+        mainThread.runPending();
+        assertEquals(1, target.refreshes);
+    }
+
+    @Test public void otherTargetsAreNotPaused() {
+        store.edit().putInt("count", 2).apply();
+        assertEquals(2, other.count);
+    }
+
+    @Test public void resumeAppliesEachChangedKeyOnceWithLatestValue() {
+        store.edit().putInt("count", 2).apply();
+        store.edit().putInt("count", 3).apply();
+        store.edit().putString("name", "b").apply();
+        PreferenceBinder.resume(target);
+
+        assertEquals(3, target.count);
+        assertEquals("b", target.name);
+        final List<Integer> expected = new ArrayList<Integer>();
+        expected.add(1);
+        expected.add(3);
+        assertEquals(expected, target.counts);
+
+        // Coalesced methods are called once for all of the keys applied on resume
+        mainThread.runPending();
+        assertEquals(2, target.refreshes);
+    }
+
+    @Test public void resumeWithoutChangesAppliesNothing() {
+        PreferenceBinder.resume(target);
+        assertEquals(1, target.counts.size());
+        assertEquals(0, mainThread.pendingCount());
+    }
+
+    @Test public void changesAreAppliedStraightAwayAfterResume() {
+        PreferenceBinder.resume(target);
+        store.edit().putInt("count", 2).apply();
+        assertEquals(2, target.count);
+    }
+
+    @Test public void unboundTargetIsNotUpdatedOnResume() {
+        store.edit().putInt("count", 2).apply();
+        PreferenceBinder.unbind(target);
+        PreferenceBinder.resume(target);
+        assertEquals(1, target.count);
+    }
+
+}
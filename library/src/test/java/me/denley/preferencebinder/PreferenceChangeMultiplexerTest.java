@@ -0,0 +1,106 @@
+package me.denley.preferencebinder;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import me.denley.preferencebinder.store.InMemoryPreferenceStore;
+import me.denley.preferencebinder.store.PreferenceStore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PreferenceChangeMultiplexerTest {
+
+    static class Target {
+        @BindPref("count") int count;
+        @BindPref("name") String name;
+    }
+
+    // Binds a key that its superclass also binds, so that both binders subscribe to it for the same target
+    static class ChildTarget extends Target {
+        @BindPref("count") int childCount;
+    }
+
+    static class WritingTarget {
+        final PreferenceStore store;
+        final boolean writesBack;
+        int count;
+
+        WritingTarget(PreferenceStore store, boolean writesBack) {
+            this.store = store;
+            this.writesBack = writesBack;
+        }
+
+        @BindPref("count") void onCount(int count) {
+            this.count = count;
+            if (writesBack && count == 1) {
+                store.edit().putInt("count", 99).apply();
+            }
+        }
+    }
+
+    @Test public void multiplexerIsRemovedWithItsLastSubscriber() {
+        final InMemoryPreferenceStore store = new InMemoryPreferenceStore();
+        final Target first = new Target();
+        final Target second = new Target();
+
+        PreferenceBinder.bind(first, store);
+        PreferenceBinder.bind(second, store);
+        PreferenceBinder.unbind(first);
+        assertTrue(PreferenceChangeMultiplexer.MULTIPLEXERS.containsKey(store));
+
+        PreferenceBinder.unbind(second);
+        assertFalse(PreferenceChangeMultiplexer.MULTIPLEXERS.containsKey(store));
+    }
+
+    @Test public void rebindingAfterRemovalReceivesChanges() {
+        final InMemoryPreferenceStore store = new InMemoryPreferenceStore();
+        final Target target = new Target();
+
+        PreferenceBinder.bind(target, store);
+        PreferenceBinder.unbind(target);
+        store.edit().putInt("count", 1).apply();
+        assertEquals(0, target.count);
+
+        PreferenceBinder.bind(target, store);
+        store.edit().putInt("count", 2).apply();
+        assertEquals(2, target.count);
+        PreferenceBinder.unbind(target);
+    }
+
+    @Test public void keyBoundBySuperclassAndSubclassReachesBoth() {
+        final InMemoryPreferenceStore store = new InMemoryPreferenceStore();
+        final ChildTarget target = new ChildTarget();
+
+        PreferenceBinder.bind(target, store);
+        store.edit().putInt("count", 1).apply();
+        assertEquals(1, target.count);
+        assertEquals(1, target.childCount);
+
+        PreferenceBinder.unbind(target);
+        assertFalse(PreferenceChangeMultiplexer.MULTIPLEXERS.containsKey(store));
+    }
+
+    @Test public void valueWrittenDuringDispatchReachesEveryTarget() {
+        final InMemoryPreferenceStore store = new InMemoryPreferenceStore();
+        final List<WritingTarget> targets = new ArrayList<WritingTarget>();
+        for (int i = 0; i < 20; i++) {
+            final WritingTarget target = new WritingTarget(store, i == 10);
+            targets.add(target);
+            PreferenceBinder.bind(target, store);
+        }
+
+        // One target changes the key again while the first change is being dispatched
+        store.edit().putInt("count", 1).apply();
+
+        assertEquals(99, store.getInt("count", 0));
+        for (WritingTarget target : targets) {
+            assertEquals(99, target.count);
+            PreferenceBinder.unbind(target);
+        }
+    }
+
+}
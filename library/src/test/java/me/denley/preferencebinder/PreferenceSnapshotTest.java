@@ -0,0 +1,63 @@
+package me.denley.preferencebinder;
+
+import org.junit.Test;
+
+import me.denley.preferencebinder.store.InMemoryPreferenceStore;
+import me.denley.preferencebinder.store.PreferenceStore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class PreferenceSnapshotTest {
+
+    @Test public void keyedSnapshotOnlyHoldsItsKeys() {
+        final InMemoryPreferenceStore store = new InMemoryPreferenceStore();
+        store.edit().putInt("count", 1).putString("name", "x").putLong("other", 2L).apply();
+
+        final PreferenceStore snapshot = PreferenceSnapshot.of(store, new String[] {"count", "name", "missing"});
+        assertEquals(1, snapshot.getInt("count", 0));
+        assertEquals("x", snapshot.getString("name", null));
+        assertFalse(snapshot.contains("missing"));
+        assertFalse(snapshot.contains("other"));
+        assertEquals(2, snapshot.getAll().size());
+    }
+
+    @Test public void keyedSnapshotKeepsItsValues() {
+        final InMemoryPreferenceStore store = new InMemoryPreferenceStore();
+        store.edit().putInt("count", 1).apply();
+
+        final PreferenceStore snapshot = PreferenceSnapshot.of(store, new String[] {"count"});
+        store.edit().putInt("count", 2).apply();
+        assertEquals(1, snapshot.getInt("count", 0));
+    }
+
+    @Test public void trackedSnapshotReadsChangedKeysFromTheStore() {
+        final InMemoryPreferenceStore store = new InMemoryPreferenceStore();
+        store.edit().putInt("count", 1).putString("name", "x").apply();
+
+        final PreferenceSnapshot snapshot = PreferenceSnapshot.track(store);
+        store.edit().putInt("count", 2).remove("name").apply();
+        snapshot.release();
+        store.edit().putInt("count", 3).apply();
+
+        // Keys changed before the release are read from the store
+        assertEquals(3, snapshot.getInt("count", 0));
+        assertFalse(snapshot.contains("name"));
+        assertNull(snapshot.getString("name", null));
+        assertEquals(1, snapshot.getValues(new String[] {"count", "name"}).size());
+    }
+
+    @Test public void releasedSnapshotKeepsUnchangedValues() {
+        final InMemoryPreferenceStore store = new InMemoryPreferenceStore();
+        store.edit().putInt("count", 1).apply();
+
+        final PreferenceSnapshot snapshot = PreferenceSnapshot.track(store);
+        snapshot.release();
+        store.edit().putInt("count", 2).apply();
+        assertEquals(1, snapshot.getInt("count", 0));
+        assertTrue(snapshot.contains("count"));
+    }
+
+}
@@ -0,0 +1,121 @@
+package me.denley.preferencebinder;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import me.denley.preferencebinder.store.InMemoryPreferenceStore;
+
+import static org.junit.Assert.assertEquals;
+
+/** Checks targets bound with {@link PreferenceBinder#bindForRefresh}. */
+public class PullChangesTest {
+
+    static class Target {
+        @BindPref("count") int count;
+        @BindPref("name") String name;
+        final List<Integer> counts = new ArrayList<Integer>();
+        int refreshes;
+
+        @BindPref(value = "count", skipUnchanged = false) void onCount(int count) {
+            counts.add(count);
+        }
+
+        @BindPref(value = {"count", "name"}, coalesce = true) void refresh() {
+            refreshes++;
+        }
+    }
+
+    private final QueuedExecutor mainThread = new QueuedExecutor();
+    private final InMemoryPreferenceStore store = new InMemoryPreferenceStore();
+    private final Target target = new Target();
+
+    @Before public void setUp() {
+        PreferenceBinder.setMainThreadExecutor(mainThread);
+        store.edit().putInt("count", 1).putString("name", "a").apply();
+        PreferenceBinder.bindForRefresh(target, store);
+    }
+
+    @After public void tearDown() {
+        PreferenceBinder.unbind(target);
+        PreferenceBinder.setMainThreadExecutor(null);
+    }
+
+    @Test public void initialValuesAreAppliedWhenBound() {
+        assertEquals(1, target.count);
+        assertEquals("a", target.name);
+        assertEquals(1, target.refreshes);
+    }
+
+    @Test public void changesAreOnlyAppliedOnRefresh() {
+        store.edit().putInt("count", 2).putString("name", "b").apply();
+        assertEquals(1, target.count);
+        assertEquals("a", target.name);
+
+        PreferenceBinder.refresh(target);
+        assertEquals(2, target.count);
+        assertEquals("b", target.name);
+    }
+
+    @Test public void refreshAppliesEachChangedKeyOnceWithLatestValue() {
+        store.edit().putInt("count", 2).apply();
+        store.edit().putInt("count", 3).apply();
+        PreferenceBinder.refresh(target);
+
+        final List<Integer> expected = new ArrayList<Integer>();
+        expected.add(1);
+        expected.add(3);
+        assertEquals(expected, target.counts);
+    }
+
+    @Test public void coalescedMethodsAreCalledAtEndOfRefresh() {
+        store.edit().putInt("count", 2).putString("name", "b").apply();
+        assertEquals(1, target.refreshes);
+        assertEquals(0, mainThread.pendingCount());
+
+        PreferenceBinder.refresh(target);
+        assertEquals(2, target.refreshes);
+        assertEquals(0, mainThread.pendingCount());
+    }
+
+    @Test public void refreshWithoutChangesAppliesNothing() {
+        PreferenceBinder.refresh(target);
+        assertEquals(1, target.counts.size());
+        assertEquals(1, target.refreshes);
+
+        store.edit().putInt("count", 2).apply();
+        PreferenceBinder.refresh(target);
+        PreferenceBinder.refresh(target);
+        assertEquals(2, target.counts.size());
+        assertEquals(2, target.refreshes);
+    }
+
+    @Test public void pauseHasNoEffect() {
+        PreferenceBinder.pause(target);
+        store.edit().putInt("count", 2).apply();
+        PreferenceBinder.refresh(target);
+        assertEquals(2, target.count);
+    }
+
+    @Test public void unboundTargetIsNotUpdatedOnRefresh() {
+        store.edit().putInt("count", 2).apply();
+        PreferenceBinder.unbind(target);
+        PreferenceBinder.refresh(target);
+        assertEquals(1, target.count);
+    }
+
+    @Test public void targetBoundNormallyIsNotAffectedByRefresh() {
+        final Target pushed = new Target();
+        PreferenceBinder.bind(pushed, store);
+        store.edit().putInt("count", 2).apply();
+        assertEquals(2, pushed.count);
+
+        PreferenceBinder.refresh(pushed);
+        assertEquals(2, pushed.counts.size());
+        PreferenceBinder.unbind(pushed);
+    }
+
+}
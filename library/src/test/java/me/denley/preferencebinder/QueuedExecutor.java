@@ -0,0 +1,33 @@
+package me.denley.preferencebinder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Stands in for the main thread in tests (see {@link PreferenceBinder#setMainThreadExecutor}).
+ * Tasks are only run when the test calls {@link #runPending()}.
+ */
+class QueuedExecutor implements Executor {
+
+    private final List<Runnable> tasks = new ArrayList<Runnable>();
+
+    @Override public void execute(Runnable task) {
+        tasks.add(task);
+    }
+
+    /** @return The number of tasks waiting to be run. */
+    int pendingCount() {
+        return tasks.size();
+    }
+
+    /** Runs the waiting tasks, as the next main loop iteration would. */
+    void runPending() {
+        final List<Runnable> pending = new ArrayList<Runnable>(tasks);
+        tasks.clear();
+        for (Runnable task : pending) {
+            task.run();
+        }
+    }
+
+}
@@ -0,0 +1,104 @@
+package me.denley.preferencebinder;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import me.denley.preferencebinder.store.InMemoryPreferenceStore;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks which bindings are skipped when a key's value is unchanged. Changes made while a target
+ * is paused, and then undone, are applied on resume with the value that the target already has.
+ */
+public class SkipUnchangedTest {
+
+    static class Target {
+        @BindPref("count") int count;
+        final List<Integer> counts = new ArrayList<Integer>();
+        final List<Integer> everyCount = new ArrayList<Integer>();
+        final List<Integer> levels = new ArrayList<Integer>();
+        final List<Integer> levelChanges = new ArrayList<Integer>();
+
+        @BindPref("count") void onCount(int count) {
+            counts.add(count);
+        }
+
+        @BindPref(value = "count", skipUnchanged = false) void onEveryCount(int count) {
+            everyCount.add(count);
+        }
+
+        @BindPref(value = "level", listen = false) void initLevel(int level) {
+            levels.add(level);
+        }
+
+        @BindPref(value = "level", init = false) void onLevelChanged(int level) {
+            levelChanges.add(level);
+        }
+    }
+
+    private final InMemoryPreferenceStore store = new InMemoryPreferenceStore();
+    private final Target target = new Target();
+
+    @Before public void setUp() {
+        store.edit().putInt("count", 1).putInt("level", 5).apply();
+        PreferenceBinder.bind(target, store);
+    }
+
+    @After public void tearDown() {
+        PreferenceBinder.unbind(target);
+    }
+
+    @Test public void changedValueIsApplied() {
+        store.edit().putInt("count", 2).apply();
+        assertEquals(2, target.count);
+        assertEquals(list(1, 2), target.counts);
+        assertEquals(list(1, 2), target.everyCount);
+    }
+
+    @Test public void unchangedValueIsOnlyAppliedWithoutSkipping() {
+        PreferenceBinder.pause(target);
+        store.edit().putInt("count", 2).apply();
+        store.edit().putInt("count", 1).apply();
+        PreferenceBinder.resume(target);
+
+        assertEquals(list(1), target.counts);
+        assertEquals(list(1, 1), target.everyCount);
+    }
+
+    @Test public void listenOnlyBindingIsGivenInitialValueWhenChangedBackToIt() {
+        assertEquals(list(5), target.levels);
+
+        PreferenceBinder.pause(target);
+        store.edit().putInt("level", 6).apply();
+        store.edit().putInt("level", 5).apply();
+        PreferenceBinder.resume(target);
+
+        // The listening binding was never initialized, so it hasn't seen 5 yet
+        assertEquals(list(5), target.levelChanges);
+    }
+
+    @Test public void listenOnlyBindingSkipsValueItWasLastGiven() {
+        store.edit().putInt("level", 6).apply();
+        PreferenceBinder.pause(target);
+        store.edit().putInt("level", 7).apply();
+        store.edit().putInt("level", 6).apply();
+        PreferenceBinder.resume(target);
+
+        assertEquals(list(6), target.levelChanges);
+        assertEquals(list(5), target.levels);
+    }
+
+    private static List<Integer> list(Integer... values) {
+        final List<Integer> list = new ArrayList<Integer>();
+        for (Integer value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+}
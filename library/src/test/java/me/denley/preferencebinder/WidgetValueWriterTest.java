@@ -0,0 +1,160 @@
+package me.denley.preferencebinder;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import me.denley.preferencebinder.internal.WritePolicy;
+import me.denley.preferencebinder.store.InMemoryPreferenceStore;
+import me.denley.preferencebinder.store.PreferenceStore;
+
+import static org.junit.Assert.assertEquals;
+
+public class WidgetValueWriterTest {
+
+    private static final String KEY = "progress";
+    private static final long DELAY = 300;
+
+    /** A main thread clock that only moves when the test advances it. */
+    static class FakeScheduler implements WidgetValueWriter.Scheduler {
+        private final List<Runnable> tasks = new ArrayList<Runnable>();
+        private final List<Long> times = new ArrayList<Long>();
+        long now = 10000;
+
+        @Override public long uptimeMillis() {
+            return now;
+        }
+
+        @Override public void postAtTime(Runnable task, long uptimeMillis) {
+            tasks.add(task);
+            times.add(uptimeMillis);
+        }
+
+        @Override public void removeCallbacks(Runnable task) {
+            for (int i = tasks.size() - 1; i >= 0; i--) {
+                if (tasks.get(i) == task) {
+                    tasks.remove(i);
+                    times.remove(i);
+                }
+            }
+        }
+
+        /** Moves the clock forward, running each task that becomes due. */
+        void advance(long millis) {
+            now += millis;
+            for (int i = 0; i < tasks.size(); ) {
+                if (times.get(i) <= now) {
+                    times.remove(i);
+                    tasks.remove(i).run();
+                    i = 0;
+                } else {
+                    i++;
+                }
+            }
+        }
+    }
+
+    private final FakeScheduler scheduler = new FakeScheduler();
+    private final InMemoryPreferenceStore store = new InMemoryPreferenceStore();
+    private int writes;
+
+    @Before public void setUp() {
+        WidgetValueWriter.setScheduler(scheduler);
+        store.registerOnChangeListener(new PreferenceStore.OnChangeListener() {
+            @Override public void onPreferenceChanged(PreferenceStore store, String key) {
+                writes++;
+            }
+        });
+    }
+
+    @After public void tearDown() {
+        WidgetValueWriter.setScheduler(null);
+    }
+
+    private WidgetValueWriter writer(WritePolicy policy) {
+        return new WidgetValueWriter(store, KEY, policy, DELAY);
+    }
+
+    @Test public void immediateWritesEveryChange() {
+        final WidgetValueWriter writer = writer(WritePolicy.IMMEDIATE);
+        writer.putInt(1);
+        writer.putInt(2);
+
+        assertEquals(2, writes);
+        assertEquals(2, store.getInt(KEY, 0));
+    }
+
+    @Test public void onReleaseWritesOnceTheUserReleases() {
+        final WidgetValueWriter writer = writer(WritePolicy.ON_RELEASE);
+        writer.onStartTrackingTouch();
+        writer.putInt(1);
+        writer.putInt(2);
+        assertEquals(0, writes);
+
+        writer.onStopTrackingTouch();
+        assertEquals(1, writes);
+        assertEquals(2, store.getInt(KEY, 0));
+
+        // Changes made without dragging (e.g. with a keyboard) are written straight away
+        writer.putInt(3);
+        assertEquals(2, writes);
+    }
+
+    @Test public void throttleWritesAtMostOncePerDelay() {
+        final WidgetValueWriter writer = writer(WritePolicy.THROTTLE);
+        writer.putInt(1);
+        assertEquals(1, writes);
+
+        scheduler.advance(100);
+        writer.putInt(2);
+        scheduler.advance(100);
+        writer.putInt(3);
+        assertEquals(1, writes);
+
+        // The latest value is written once the delay has passed
+        scheduler.advance(100);
+        assertEquals(2, writes);
+        assertEquals(3, store.getInt(KEY, 0));
+    }
+
+    @Test public void debounceWritesOnceChangesStop() {
+        final WidgetValueWriter writer = writer(WritePolicy.DEBOUNCE);
+        writer.putInt(1);
+        scheduler.advance(200);
+        writer.putInt(2);
+        scheduler.advance(200);
+        assertEquals(0, writes);
+
+        scheduler.advance(100);
+        assertEquals(1, writes);
+        assertEquals(2, store.getInt(KEY, 0));
+    }
+
+    @Test public void flushWritesThePendingValueOnTheNextIteration() {
+        final WidgetValueWriter writer = writer(WritePolicy.DEBOUNCE);
+        writer.putInt(1);
+        writer.flush();
+
+        scheduler.advance(0);
+        assertEquals(1, writes);
+
+        // Nothing is written once the delay would have passed
+        scheduler.advance(DELAY);
+        assertEquals(1, writes);
+    }
+
+    @Test public void flushWritesAValueHeldUntilRelease() {
+        final WidgetValueWriter writer = writer(WritePolicy.ON_RELEASE);
+        writer.onStartTrackingTouch();
+        writer.putInt(1);
+        writer.flush();
+
+        scheduler.advance(0);
+        assertEquals(1, writes);
+        assertEquals(1, store.getInt(KEY, 0));
+    }
+
+}
@@ -0,0 +1,140 @@
+package me.denley.preferencebinder;
+
+import android.widget.CompoundButton;
+import android.widget.SeekBar;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import me.denley.preferencebinder.internal.WidgetBindingType;
+import me.denley.preferencebinder.store.InMemoryPreferenceStore;
+import me.denley.preferencebinder.store.PreferenceStore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/** Checks that values written back by two-way widget bindings aren't applied to the widget again. */
+public class WidgetWriteBackTest {
+
+    /** Behaves like a CompoundButton, and counts the changes applied to it. */
+    static class Button extends CompoundButton {
+        private OnCheckedChangeListener listener;
+        private boolean checked;
+        int setCheckedCalls;
+
+        Button() {
+            super(null);
+        }
+
+        @Override public void setOnCheckedChangeListener(OnCheckedChangeListener listener) {
+            this.listener = listener;
+        }
+
+        @Override public boolean isChecked() {
+            return checked;
+        }
+
+        @Override public void setChecked(boolean checked) {
+            setCheckedCalls++;
+            if (this.checked != checked) {
+                this.checked = checked;
+                if (listener != null) {
+                    listener.onCheckedChanged(this, checked);
+                }
+            }
+        }
+
+        void toggleByUser() {
+            checked = !checked;
+            listener.onCheckedChanged(this, checked);
+        }
+    }
+
+    /** Behaves like a SeekBar, and counts the changes applied to it. */
+    static class Slider extends SeekBar {
+        private OnSeekBarChangeListener listener;
+        private int progress;
+        int setProgressCalls;
+
+        Slider() {
+            super(null);
+        }
+
+        @Override public void setOnSeekBarChangeListener(OnSeekBarChangeListener listener) {
+            this.listener = listener;
+        }
+
+        @Override public int getProgress() {
+            return progress;
+        }
+
+        @Override public void setProgress(int progress) {
+            setProgressCalls++;
+            this.progress = progress;
+            if (listener != null) {
+                listener.onProgressChanged(this, progress, false);
+            }
+        }
+
+        void dragByUser(int progress) {
+            this.progress = progress;
+            listener.onProgressChanged(this, progress, true);
+        }
+    }
+
+    static class Target {
+        @BindPref(value = "enabled", bindTo = WidgetBindingType.CHECKED) Button button = new Button();
+        @BindPref(value = "volume", bindTo = WidgetBindingType.SEEKBAR_PROGRESS) Slider slider = new Slider();
+    }
+
+    private final InMemoryPreferenceStore store = new InMemoryPreferenceStore();
+    private final Target target = new Target();
+    private int writes;
+
+    @Before public void setUp() {
+        store.edit().putBoolean("enabled", false).putInt("volume", 1).apply();
+        PreferenceBinder.bind(target, store);
+        store.registerOnChangeListener(new PreferenceStore.OnChangeListener() {
+            @Override public void onPreferenceChanged(PreferenceStore store, String key) {
+                writes++;
+            }
+        });
+        target.button.setCheckedCalls = 0;
+        target.slider.setProgressCalls = 0;
+    }
+
+    @After public void tearDown() {
+        PreferenceBinder.unbind(target);
+    }
+
+    @Test public void userChangeIsSavedButNotReapplied() {
+        target.button.toggleByUser();
+        assertTrue(store.getBoolean("enabled", false));
+        assertEquals(0, target.button.setCheckedCalls);
+
+        target.slider.dragByUser(7);
+        assertEquals(7, store.getInt("volume", 0));
+        assertEquals(0, target.slider.setProgressCalls);
+        assertEquals(2, writes);
+    }
+
+    @Test public void storeChangeIsAppliedButNotSaved() {
+        store.edit().putBoolean("enabled", true).putInt("volume", 5).apply();
+        assertEquals(2, writes);
+
+        assertTrue(target.button.isChecked());
+        assertEquals(1, target.button.setCheckedCalls);
+        assertEquals(5, target.slider.getProgress());
+        assertEquals(1, target.slider.setProgressCalls);
+    }
+
+    @Test public void unboundWidgetIsNotSaved() {
+        PreferenceBinder.unbind(target);
+        target.button.setChecked(true);
+        assertFalse(store.getBoolean("enabled", false));
+        assertEquals(0, writes);
+    }
+
+}
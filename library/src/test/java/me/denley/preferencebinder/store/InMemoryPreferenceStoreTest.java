@@ -0,0 +1,78 @@
+package me.denley.preferencebinder.store;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class InMemoryPreferenceStoreTest {
+
+    /** Records the keys it is notified of. */
+    static class RecordingListener implements PreferenceStore.OnChangeListener {
+        final List<String> keys = new ArrayList<String>();
+
+        @Override public void onPreferenceChanged(PreferenceStore store, String key) {
+            keys.add(key);
+        }
+    }
+
+    @Test public void listenersAreNotifiedOfChangedKeysInOrder() {
+        final InMemoryPreferenceStore store = new InMemoryPreferenceStore();
+        final RecordingListener listener = new RecordingListener();
+        store.registerOnChangeListener(listener);
+
+        store.edit().putInt("b", 1).putString("a", "x").putBoolean("c", true).apply();
+        assertEquals(Arrays.asList("b", "a", "c"), listener.keys);
+    }
+
+    @Test public void unchangedValuesAreNotNotified() {
+        final InMemoryPreferenceStore store = new InMemoryPreferenceStore();
+        store.edit().putInt("count", 1).apply();
+        final RecordingListener listener = new RecordingListener();
+        store.registerOnChangeListener(listener);
+
+        store.edit().putInt("count", 1).remove("missing").apply();
+        assertTrue(listener.keys.isEmpty());
+
+        store.edit().remove("count").apply();
+        assertEquals(Collections.singletonList("count"), listener.keys);
+        assertFalse(store.contains("count"));
+    }
+
+    @Test public void unregisteredListenerIsNotNotified() {
+        final InMemoryPreferenceStore store = new InMemoryPreferenceStore();
+        final RecordingListener listener = new RecordingListener();
+        store.registerOnChangeListener(listener);
+        store.unregisterOnChangeListener(listener);
+
+        store.edit().putInt("count", 1).apply();
+        assertTrue(listener.keys.isEmpty());
+    }
+
+    @Test public void getValuesOnlyReturnsRequestedKeysThatExist() {
+        final Map<String, Object> initialValues = new HashMap<String, Object>();
+        initialValues.put("count", 1);
+        initialValues.put("name", "x");
+        initialValues.put("other", 2L);
+        final InMemoryPreferenceStore store = new InMemoryPreferenceStore(initialValues);
+
+        final Map<String, ?> values = store.getValues(new String[] {"count", "name", "missing"});
+        assertEquals(2, values.size());
+        assertEquals(1, values.get("count"));
+        assertEquals("x", values.get("name"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unsupportedInitialValueIsRejected() {
+        new InMemoryPreferenceStore(Collections.singletonMap("date", new Object()));
+    }
+
+}
@@ -0,0 +1,160 @@
+package me.denley.preferencebinder.store;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LogPreferenceStoreTest {
+
+    private static final int NO_COMPACTION = Integer.MAX_VALUE;
+
+    /** Runs compactions only when the test asks it to. */
+    static class QueuedExecutor implements Executor {
+        final List<Runnable> tasks = new ArrayList<Runnable>();
+
+        @Override public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runPending() {
+            final List<Runnable> pending = new ArrayList<Runnable>(tasks);
+            tasks.clear();
+            for (Runnable task : pending) {
+                task.run();
+            }
+        }
+    }
+
+    private final QueuedExecutor compactor = new QueuedExecutor();
+    private File directory;
+    private File file;
+    private File logFile;
+
+    @Before public void setUp() throws IOException {
+        directory = File.createTempFile("log", "");
+        assertTrue(directory.delete() && directory.mkdir());
+        file = new File(directory, "counters.prefs");
+        logFile = new File(directory, "counters.prefs.log");
+    }
+
+    @After public void tearDown() {
+        final File[] files = directory.listFiles();
+        if (files != null) {
+            for (File child : files) {
+                child.delete();
+            }
+        }
+        directory.delete();
+    }
+
+    private LogPreferenceStore open(int compactionThreshold) throws IOException {
+        return LogPreferenceStore.open(file, compactionThreshold, compactor);
+    }
+
+    @Test public void reopeningReplaysTheLog() throws IOException {
+        final LogPreferenceStore store = open(NO_COMPACTION);
+        store.edit().putInt("count", 1).putString("name", "x").apply();
+        store.edit().putInt("count", 2).apply();
+        store.edit().remove("name").putLong("time", 3L).apply();
+
+        final LogPreferenceStore reopened = open(NO_COMPACTION);
+        assertEquals(2, reopened.getInt("count", 0));
+        assertFalse(reopened.contains("name"));
+        assertEquals(3L, reopened.getLong("time", 0));
+        assertFalse(file.exists());
+    }
+
+    @Test public void tornRecordIsDiscarded() throws IOException {
+        final LogPreferenceStore store = open(NO_COMPACTION);
+        store.edit().putInt("count", 1).apply();
+        final long length = logFile.length();
+        store.edit().putInt("count", 2).putString("name", "x").apply();
+
+        // Cut the last record short, as power loss during the append could
+        final RandomAccessFile log = new RandomAccessFile(logFile, "rw");
+        try {
+            log.setLength(logFile.length() - 3);
+        } finally {
+            log.close();
+        }
+
+        final LogPreferenceStore reopened = open(NO_COMPACTION);
+        assertEquals(1, reopened.getInt("count", 0));
+        assertFalse(reopened.contains("name"));
+        assertEquals(length, logFile.length());
+
+        // New records are appended after the last complete one
+        reopened.edit().putInt("count", 3).apply();
+        assertEquals(3, open(NO_COMPACTION).getInt("count", 0));
+    }
+
+    @Test public void garbageAfterTheLastRecordIsDiscarded() throws IOException {
+        open(NO_COMPACTION).edit().putInt("count", 1).apply();
+        final long length = logFile.length();
+
+        final FileOutputStream log = new FileOutputStream(logFile, true);
+        try {
+            log.write(new byte[] {0, 0, 0, 9, 1, 2, 3});
+        } finally {
+            log.close();
+        }
+
+        assertEquals(1, open(NO_COMPACTION).getInt("count", 0));
+        assertEquals(length, logFile.length());
+    }
+
+    @Test public void compactionWritesACheckpointAndCutsTheLog() throws IOException {
+        final LogPreferenceStore store = open(256);
+        for (int i = 0; i < 20; i++) {
+            store.edit().putInt("count", i).apply();
+        }
+        assertEquals(1, compactor.tasks.size());
+        final long uncompactedLength = logFile.length();
+
+        // Changes applied before the compaction runs are kept in the new log
+        store.edit().putString("name", "x").apply();
+        compactor.runPending();
+        assertTrue(file.exists());
+        assertTrue(logFile.length() < uncompactedLength);
+
+        store.edit().putInt("count", 100).apply();
+        final LogPreferenceStore reopened = open(256);
+        assertEquals(100, reopened.getInt("count", 0));
+        assertEquals("x", reopened.getString("name", null));
+    }
+
+    @Test public void failedAppendIsSavedByACheckpoint() throws Exception {
+        final LogPreferenceStore store = open(NO_COMPACTION);
+        store.edit().putInt("count", 1).apply();
+
+        // Make the next append fail
+        final Field log = LogPreferenceStore.class.getDeclaredField("log");
+        log.setAccessible(true);
+        ((FileOutputStream) log.get(store)).close();
+
+        store.edit().putInt("count", 2).apply();
+        assertEquals(2, store.getInt("count", 0));
+        assertEquals(1, compactor.tasks.size());
+
+        compactor.runPending();
+        assertEquals(2, open(NO_COMPACTION).getInt("count", 0));
+
+        // The log is usable again
+        store.edit().putInt("count", 3).apply();
+        assertEquals(3, open(NO_COMPACTION).getInt("count", 0));
+    }
+
+}
@@ -0,0 +1,142 @@
+package me.denley.preferencebinder.store;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MappedPreferenceStoreTest {
+
+    /** Runs writes only when the test asks it to. */
+    static class QueuedExecutor implements Executor {
+        final List<Runnable> tasks = new ArrayList<Runnable>();
+
+        @Override public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runPending() {
+            final List<Runnable> pending = new ArrayList<Runnable>(tasks);
+            tasks.clear();
+            for (Runnable task : pending) {
+                task.run();
+            }
+        }
+    }
+
+    private static final Executor DIRECT = new Executor() {
+        @Override public void execute(Runnable task) {
+            task.run();
+        }
+    };
+
+    private File directory;
+    private File file;
+
+    @Before public void setUp() throws IOException {
+        directory = File.createTempFile("mapped", "");
+        assertTrue(directory.delete() && directory.mkdir());
+        file = new File(directory, "settings.prefs");
+    }
+
+    @After public void tearDown() {
+        final File[] files = directory.listFiles();
+        if (files != null) {
+            for (File child : files) {
+                child.delete();
+            }
+        }
+        directory.delete();
+    }
+
+    @Test public void valuesOfEveryTypeSurviveReopening() throws IOException {
+        final Set<String> set = new HashSet<String>(Arrays.asList("a", "b"));
+        MappedPreferenceStore.open(file, DIRECT).edit()
+                .putBoolean("boolean", true)
+                .putFloat("float", 1.5f)
+                .putInt("int", 2)
+                .putLong("long", 3L)
+                .putString("string", "four")
+                .putStringSet("set", set)
+                .apply();
+
+        final MappedPreferenceStore reopened = MappedPreferenceStore.open(file, DIRECT);
+        assertTrue(reopened.getBoolean("boolean", false));
+        assertEquals(1.5f, reopened.getFloat("float", 0), 0);
+        assertEquals(2, reopened.getInt("int", 0));
+        assertEquals(3L, reopened.getLong("long", 0));
+        assertEquals("four", reopened.getString("string", null));
+        assertEquals(set, reopened.getStringSet("set", null));
+        assertEquals(6, reopened.getAll().size());
+    }
+
+    @Test public void singleValueIsUpdatedInPlace() throws IOException {
+        final MappedPreferenceStore store = MappedPreferenceStore.open(file, DIRECT);
+        store.edit().putInt("count", 1).putString("name", "x").apply();
+        final long length = file.length();
+
+        store.edit().putInt("count", 2).apply();
+        assertEquals(length, file.length());
+        assertEquals(2, MappedPreferenceStore.open(file, DIRECT).getInt("count", 0));
+    }
+
+    @Test public void removedKeyIsGoneAfterReopening() throws IOException {
+        final MappedPreferenceStore store = MappedPreferenceStore.open(file, DIRECT);
+        store.edit().putInt("count", 1).putInt("other", 2).apply();
+        store.edit().remove("count").apply();
+
+        final MappedPreferenceStore reopened = MappedPreferenceStore.open(file, DIRECT);
+        assertFalse(reopened.contains("count"));
+        assertEquals(2, reopened.getInt("other", 0));
+        assertFalse(new File(file.getPath() + ".tmp").exists());
+    }
+
+    @Test public void changesAreReadableBeforeTheyAreWritten() throws IOException {
+        final QueuedExecutor writer = new QueuedExecutor();
+        final MappedPreferenceStore store = MappedPreferenceStore.open(file, writer);
+        store.edit().putString("name", "x").apply();
+        store.edit().putInt("count", 1).remove("name").apply();
+
+        assertEquals(1, store.getInt("count", 0));
+        assertFalse(store.contains("name"));
+        assertEquals(1, writer.tasks.size());
+        assertTrue(MappedPreferenceStore.open(file, DIRECT).getAll().isEmpty());
+
+        writer.runPending();
+        final MappedPreferenceStore reopened = MappedPreferenceStore.open(file, DIRECT);
+        assertEquals(1, reopened.getInt("count", 0));
+        assertFalse(reopened.contains("name"));
+    }
+
+    @Test public void failedWriteIsKeptAndRetriedAfterTheNextChange() throws IOException {
+        final QueuedExecutor writer = new QueuedExecutor();
+        final MappedPreferenceStore store = MappedPreferenceStore.open(file, writer);
+
+        // Nothing can be written while the directory is missing
+        assertTrue(file.delete() && directory.delete());
+        store.edit().putString("name", "x").apply();
+        writer.runPending();
+        assertEquals("x", store.getString("name", null));
+
+        assertTrue(directory.mkdir());
+        store.edit().putInt("count", 1).apply();
+        writer.runPending();
+
+        final MappedPreferenceStore reopened = MappedPreferenceStore.open(file, DIRECT);
+        assertEquals("x", reopened.getString("name", null));
+        assertEquals(1, reopened.getInt("count", 0));
+    }
+
+}